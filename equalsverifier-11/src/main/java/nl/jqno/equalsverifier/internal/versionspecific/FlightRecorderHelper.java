@@ -0,0 +1,217 @@
+package nl.jqno.equalsverifier.internal.versionspecific;
+
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+import jdk.jfr.*;
+
+/**
+ * Emits Java Flight Recorder events for the phases of a verification.
+ *
+ * <p>
+ * When no recording is running, or when a runtime image doesn't contain the jdk.jfr module, the actions are simply run.
+ */
+public final class FlightRecorderHelper {
+
+    private static final boolean AVAILABLE = ModuleLayer.boot().findModule("jdk.jfr").isPresent();
+
+    private FlightRecorderHelper() {}
+
+    public static void verification(Class<?> type, Runnable action) {
+        if (!AVAILABLE) {
+            action.run();
+            return;
+        }
+        VerificationEvent event = new VerificationEvent();
+        if (!event.isEnabled()) {
+            action.run();
+            return;
+        }
+        event.type = type;
+        record(event, action);
+    }
+
+    public static void checker(Class<?> type, String checker, Runnable action) {
+        if (!AVAILABLE) {
+            action.run();
+            return;
+        }
+        CheckerEvent event = new CheckerEvent();
+        if (!event.isEnabled()) {
+            action.run();
+            return;
+        }
+        event.type = type;
+        event.checker = checker;
+        record(event, action);
+    }
+
+    /**
+     * @return Whether a recording that includes field check events is running, so callers can skip the work of
+     *             preparing {@link #fieldCheck(Class, String, String, Runnable)} when it isn't.
+     */
+    public static boolean isFieldCheckEnabled() {
+        return AVAILABLE && FieldCheckEventType.TYPE.isEnabled();
+    }
+
+    public static void fieldCheck(Class<?> type, String check, String field, Runnable action) {
+        if (!AVAILABLE) {
+            action.run();
+            return;
+        }
+        FieldCheckEvent event = new FieldCheckEvent();
+        if (!event.isEnabled()) {
+            action.run();
+            return;
+        }
+        event.type = type;
+        event.check = check;
+        event.field = field;
+        record(event, action);
+    }
+
+    public static void annotationCache(Class<?> type, Runnable action) {
+        if (!AVAILABLE) {
+            action.run();
+            return;
+        }
+        AnnotationCacheEvent event = new AnnotationCacheEvent();
+        if (!event.isEnabled()) {
+            action.run();
+            return;
+        }
+        event.type = type;
+        record(event, action);
+    }
+
+    public static boolean dynamicSubclasses(Class<?> superclass, int count, BooleanSupplier action) {
+        if (!AVAILABLE) {
+            return action.getAsBoolean();
+        }
+        DynamicSubclassesEvent event = new DynamicSubclassesEvent();
+        if (!event.isEnabled()) {
+            return action.getAsBoolean();
+        }
+        event.superclass = superclass;
+        event.count = count;
+        event.begin();
+        try {
+            event.cacheHit = action.getAsBoolean();
+            return event.cacheHit;
+        }
+        finally {
+            event.commit();
+        }
+    }
+
+    public static <T> T valueCreation(Object typeTag, Supplier<T> action) {
+        if (!AVAILABLE) {
+            return action.get();
+        }
+        ValueCreationEvent event = new ValueCreationEvent();
+        if (!event.isEnabled()) {
+            return action.get();
+        }
+        event.typeTag = String.valueOf(typeTag);
+        event.begin();
+        try {
+            return action.get();
+        }
+        finally {
+            event.commit();
+        }
+    }
+
+    private static void record(Event event, Runnable action) {
+        event.begin();
+        try {
+            action.run();
+        }
+        finally {
+            event.commit();
+        }
+    }
+
+    @Name("nl.jqno.equalsverifier.Verification")
+    @Label("Verification")
+    @Description("Verification of equals and hashCode for a single class")
+    @Category("EqualsVerifier")
+    private static final class VerificationEvent extends Event {
+
+        @Label("Type")
+        Class<?> type;
+    }
+
+    @Name("nl.jqno.equalsverifier.Checker")
+    @Label("Checker")
+    @Description("A checker that is part of a verification")
+    @Category("EqualsVerifier")
+    private static final class CheckerEvent extends Event {
+
+        @Label("Type")
+        Class<?> type;
+
+        @Label("Checker")
+        String checker;
+    }
+
+    @Name("nl.jqno.equalsverifier.FieldCheck")
+    @Label("Field Check")
+    @Description("A check of a single field, as part of the FieldsChecker")
+    @Category("EqualsVerifier")
+    private static final class FieldCheckEvent extends Event {
+
+        @Label("Type")
+        Class<?> type;
+
+        @Label("Check")
+        String check;
+
+        @Label("Field")
+        String field;
+    }
+
+    /** Looks up the event type only when jdk.jfr is available. */
+    private static final class FieldCheckEventType {
+
+        private static final EventType TYPE = EventType.getEventType(FieldCheckEvent.class);
+
+        private FieldCheckEventType() {}
+    }
+
+    @Name("nl.jqno.equalsverifier.AnnotationCache")
+    @Label("Annotation Cache")
+    @Description("Reading the annotations of a class and its fields from bytecode")
+    @Category("EqualsVerifier")
+    private static final class AnnotationCacheEvent extends Event {
+
+        @Label("Type")
+        Class<?> type;
+    }
+
+    @Name("nl.jqno.equalsverifier.DynamicSubclasses")
+    @Label("Dynamic Subclasses")
+    @Description("Looking up or generating subclasses of a class at runtime")
+    @Category("EqualsVerifier")
+    private static final class DynamicSubclassesEvent extends Event {
+
+        @Label("Superclass")
+        Class<?> superclass;
+
+        @Label("Count")
+        int count;
+
+        @Label("Cache Hit")
+        boolean cacheHit;
+    }
+
+    @Name("nl.jqno.equalsverifier.ValueCreation")
+    @Label("Value Creation")
+    @Description("Creating red and blue values for a type")
+    @Category("EqualsVerifier")
+    private static final class ValueCreationEvent extends Event {
+
+        @Label("Type Tag")
+        String typeTag;
+    }
+}
@@ -0,0 +1,108 @@
+package nl.jqno.equalsverifier.internal.versionspecific;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import nl.jqno.equalsverifier.EqualsVerifier;
+import nl.jqno.equalsverifier.Warning;
+import nl.jqno.equalsverifier.internal.reflection.Instantiator;
+import nl.jqno.equalsverifier.testhelpers.types.Point;
+import org.junit.jupiter.api.Test;
+
+class FlightRecorderHelperTest {
+
+    private static final String PREFIX = "nl.jqno.equalsverifier.";
+
+    @Test
+    void emitsEventsForEachPhase_whenRecording() throws IOException {
+        List<RecordedEvent> events = record(() -> EqualsVerifier
+                .forClass(Point.class)
+                .suppress(Warning.STRICT_INHERITANCE)
+                .verify());
+
+        assertThat(namesOf(events))
+                .contains(
+                    PREFIX + "Verification",
+                    PREFIX + "Checker",
+                    PREFIX + "FieldCheck",
+                    PREFIX + "AnnotationCache",
+                    PREFIX + "ValueCreation");
+
+        RecordedEvent verification = eventsNamed(events, "Verification").get(0);
+        assertThat(verification.getClass("type").getName()).isEqualTo(Point.class.getName());
+
+        assertThat(eventsNamed(events, "Checker").stream().map(e -> e.getString("checker")))
+                .contains("SignatureChecker", "FieldsChecker");
+        assertThat(eventsNamed(events, "FieldCheck").stream().map(e -> e.getString("field"))).contains("x", "y");
+        assertThat(eventsNamed(events, "FieldCheck").stream().map(e -> e.getString("check")))
+                .contains("SignificantFieldCheck");
+    }
+
+    @Test
+    void emitsDynamicSubclassEvents_withCacheHit() throws IOException {
+        List<RecordedEvent> events = record(() -> {
+            Instantiator.giveDynamicSubclass(Point.class);
+            Instantiator.giveDynamicSubclass(Point.class);
+        });
+
+        List<RecordedEvent> subclassEvents = eventsNamed(events, "DynamicSubclasses");
+        assertThat(subclassEvents).hasSize(2);
+        assertThat(subclassEvents.get(0).getClass("superclass").getName()).isEqualTo(Point.class.getName());
+        assertThat(subclassEvents.get(1).getBoolean("cacheHit")).isTrue();
+    }
+
+    @Test
+    void fieldChecksAreEnabled_onlyWhenRecording() throws IOException {
+        assertThat(FlightRecorderHelper.isFieldCheckEnabled()).isFalse();
+
+        boolean[] enabled = new boolean[1];
+        record(() -> enabled[0] = FlightRecorderHelper.isFieldCheckEnabled());
+        assertThat(enabled[0]).isTrue();
+    }
+
+    @Test
+    void runsActions_whenNotRecording() {
+        boolean[] ran = new boolean[1];
+        FlightRecorderHelper.checker(Point.class, "Checker", () -> ran[0] = true);
+        assertThat(ran[0]).isTrue();
+        assertThat(FlightRecorderHelper.valueCreation("tag", () -> "value")).isEqualTo("value");
+        assertThat(FlightRecorderHelper.dynamicSubclasses(Point.class, 1, () -> true)).isTrue();
+    }
+
+    private static List<RecordedEvent> record(Runnable action) throws IOException {
+        Path file = Files.createTempFile("equalsverifier", ".jfr");
+        try (Recording recording = new Recording()) {
+            for (String name : List
+                    .of("Verification", "Checker", "FieldCheck", "AnnotationCache", "DynamicSubclasses", "ValueCreation")) {
+                recording.enable(PREFIX + name).withoutThreshold();
+            }
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file);
+        }
+        finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static List<String> namesOf(List<RecordedEvent> events) {
+        return events.stream().map(e -> e.getEventType().getName()).collect(Collectors.toList());
+    }
+
+    private static List<RecordedEvent> eventsNamed(List<RecordedEvent> events, String name) {
+        return events
+                .stream()
+                .filter(e -> e.getEventType().getName().equals(PREFIX + name))
+                .collect(Collectors.toList());
+    }
+}
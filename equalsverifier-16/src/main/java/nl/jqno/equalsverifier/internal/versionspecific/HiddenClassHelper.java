@@ -0,0 +1,36 @@
+package nl.jqno.equalsverifier.internal.versionspecific;
+
+import java.lang.invoke.MethodHandles;
+
+public final class HiddenClassHelper {
+
+    private HiddenClassHelper() {}
+
+    public static boolean isSupported() {
+        return true;
+    }
+
+    public static boolean isHidden(Class<?> type) {
+        return type.isHidden();
+    }
+
+    /**
+     * Defines a hidden class in the runtime package of {@code context}. The class isn't strongly reachable from its
+     * classloader, so it's unloaded as soon as it's no longer used.
+     *
+     * @param context A class in the package of the class to define.
+     * @param bytes   The bytecode of the class to define.
+     * @return The hidden class.
+     */
+    public static Class<?> defineHiddenClass(Class<?> context, byte[] bytes) {
+        try {
+            return MethodHandles
+                    .privateLookupIn(context, MethodHandles.lookup())
+                    .defineHiddenClass(bytes, true)
+                    .lookupClass();
+        }
+        catch (IllegalAccessException e) {
+            throw new IllegalStateException("Can't define a hidden class next to " + context.getName(), e);
+        }
+    }
+}
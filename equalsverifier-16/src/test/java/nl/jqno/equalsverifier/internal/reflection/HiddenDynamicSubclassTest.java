@@ -0,0 +1,100 @@
+package nl.jqno.equalsverifier.internal.reflection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.ref.WeakReference;
+import java.util.Objects;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+import nl.jqno.equalsverifier.Warning;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.objenesis.ObjenesisStd;
+
+class HiddenDynamicSubclassTest {
+
+    @BeforeEach
+    void setUp() {
+        System.setProperty(Instantiator.HIDDEN_SUBCLASSES_PROPERTY, "true");
+    }
+
+    @AfterEach
+    void tearDown() {
+        System.clearProperty(Instantiator.HIDDEN_SUBCLASSES_PROPERTY);
+    }
+
+    @Test
+    void subclassOfConcreteClassIsHidden() {
+        var actual = Instantiator.giveDynamicSubclass(Concrete.class, "hidden", b -> b);
+        assertThat(actual.isHidden()).isTrue();
+        assertThat(actual.getSuperclass()).isEqualTo(Concrete.class);
+    }
+
+    @Test
+    void subclassOfAbstractClassIsNotHidden() {
+        var actual = Instantiator.giveDynamicSubclass(Abstract.class, "hidden", b -> b);
+        assertThat(actual.isHidden()).isFalse();
+    }
+
+    @Test
+    void hiddenSubclassCanBeInstantiated() {
+        var actual = Instantiator.of(Concrete.class, new ObjenesisStd()).instantiateAnonymousSubclass();
+        assertThat(actual.getClass().isHidden()).isTrue();
+    }
+
+    @Test
+    void hiddenSubclassIsUnloaded_whenItIsNoLongerUsed() throws InterruptedException {
+        var subclass = new WeakReference<Class<?>>(Instantiator.giveDynamicSubclass(Concrete.class, "unloaded", b -> b));
+
+        for (int i = 0; i < 100 && subclass.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertThat(subclass.get()).isNull();
+    }
+
+    @Test
+    void verificationSucceeds_givenHiddenSubclasses() {
+        EqualsVerifier.forClass(Concrete.class).suppress(Warning.STRICT_INHERITANCE).verify();
+        EqualsVerifier.forClass(Abstract.class).suppress(Warning.STRICT_INHERITANCE).verify();
+    }
+
+    static class Concrete {
+
+        private final int i;
+
+        Concrete(int i) {
+            this.i = i;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Concrete other && i == other.i;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(i);
+        }
+    }
+
+    abstract static class Abstract {
+
+        private final int i;
+
+        Abstract(int i) {
+            this.i = i;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Abstract other && i == other.i;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(i);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package nl.jqno.equalsverifier.internal.versionspecific;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import net.bytebuddy.ByteBuddy;
+import org.junit.jupiter.api.Test;
+
+class HiddenClassHelperTest {
+
+    @Test
+    void hiddenClassesAreSupported() {
+        assertThat(HiddenClassHelper.isSupported()).isTrue();
+    }
+
+    @Test
+    void definedClassIsHiddenInTheSamePackage() {
+        var bytes = new ByteBuddy().subclass(Parent.class).name(Parent.class.getName() + "$$Child").make().getBytes();
+        var actual = HiddenClassHelper.defineHiddenClass(Parent.class, bytes);
+
+        assertThat(HiddenClassHelper.isHidden(actual)).isTrue();
+        assertThat(actual.getSuperclass()).isEqualTo(Parent.class);
+        assertThat(actual.getPackageName()).isEqualTo(Parent.class.getPackageName());
+    }
+
+    @Test
+    void regularClassIsNotHidden() {
+        assertThat(HiddenClassHelper.isHidden(Parent.class)).isFalse();
+    }
+
+    public static class Parent {}
+}
@@ -0,0 +1,13 @@
+package nl.jqno.equalsverifier.internal.versionspecific;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public final class ExecutorHelper {
+
+    private ExecutorHelper() {}
+
+    public static ExecutorService newExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("equalsverifier-", 1).factory());
+    }
+}
@@ -0,0 +1,27 @@
+package nl.jqno.equalsverifier.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks with JMH's {@code gc} profiler enabled, so every result also shows the allocation rate and the
+ * number of bytes allocated per operation.
+ *
+ * <p>
+ * Accepts the same command line arguments as JMH's own {@code Main}.
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {}
+
+    // CHECKSTYLE OFF: UncommentedMain
+    public static void main(String... args) throws CommandLineOptionException, RunnerException {
+        CommandLineOptions cli = new CommandLineOptions(args);
+        new Runner(new OptionsBuilder().parent(cli).addProfiler(GCProfiler.class).build()).run();
+    }
+    // CHECKSTYLE ON: UncommentedMain
+}
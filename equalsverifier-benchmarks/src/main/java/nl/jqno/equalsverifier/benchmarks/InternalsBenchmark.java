@@ -0,0 +1,120 @@
+package nl.jqno.equalsverifier.benchmarks;
+
+import java.lang.reflect.Field;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.concurrent.TimeUnit;
+
+import nl.jqno.equalsverifier.Warning;
+import nl.jqno.equalsverifier.benchmarks.types.LazyEntity;
+import nl.jqno.equalsverifier.benchmarks.types.SmallPojo;
+import nl.jqno.equalsverifier.benchmarks.types.WideEntity;
+import nl.jqno.equalsverifier.internal.instantiation.JavaApiPrefabValues;
+import nl.jqno.equalsverifier.internal.instantiation.SubjectCreator;
+import nl.jqno.equalsverifier.internal.instantiation.vintage.FactoryCache;
+import nl.jqno.equalsverifier.internal.instantiation.vintage.TupleCache;
+import nl.jqno.equalsverifier.internal.instantiation.vintage.VintageValueProvider;
+import nl.jqno.equalsverifier.internal.reflection.FieldCache;
+import nl.jqno.equalsverifier.internal.reflection.FieldIterable;
+import nl.jqno.equalsverifier.internal.reflection.FieldProbe;
+import nl.jqno.equalsverifier.internal.reflection.TypeTag;
+import nl.jqno.equalsverifier.internal.reflection.annotations.AnnotationCache;
+import nl.jqno.equalsverifier.internal.reflection.annotations.AnnotationCacheBuilder;
+import nl.jqno.equalsverifier.internal.reflection.annotations.SupportedAnnotations;
+import nl.jqno.equalsverifier.internal.util.Configuration;
+import nl.jqno.equalsverifier.internal.util.Context;
+import nl.jqno.equalsverifier.internal.util.Formatter;
+import org.objenesis.Objenesis;
+import org.objenesis.ObjenesisStd;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the internal building blocks that dominate the time of a verification.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class InternalsBenchmark {
+
+    private final Objenesis objenesis = new ObjenesisStd();
+    private final SmallPojo smallPojo = new SmallPojo(1, "one", true);
+    private final WideEntity wideEntity = new WideEntity();
+
+    private SubjectCreator<WideEntity> subjectCreator;
+    private Field changedField;
+
+    @Setup
+    public void setup() throws NoSuchFieldException {
+        Context<WideEntity> context = new Context<>(
+            configurationFor(WideEntity.class),
+            new FactoryCache(),
+            new TupleCache(),
+            new FieldCache(),
+            objenesis);
+        subjectCreator = context.getSubjectCreator();
+        changedField = WideEntity.class.getDeclaredField("f30");
+    }
+
+    @Benchmark
+    public WideEntity subjectCreatorPlain() {
+        return subjectCreator.plain();
+    }
+
+    @Benchmark
+    public WideEntity subjectCreatorWithFieldChanged() {
+        return subjectCreator.withFieldChanged(changedField);
+    }
+
+    @Benchmark
+    public Object valueProviderProvide() {
+        FactoryCache cache = JavaApiPrefabValues.shared().merge(new FactoryCache());
+        VintageValueProvider provider = new VintageValueProvider(cache, objenesis);
+        return provider.provide(new TypeTag(WideEntity.class));
+    }
+
+    @Benchmark
+    public void fieldIterable(Blackhole blackhole) {
+        for (FieldProbe probe : FieldIterable.of(WideEntity.class)) {
+            blackhole.consume(probe);
+        }
+    }
+
+    @Benchmark
+    public AnnotationCache annotationCacheBuilderBuild() {
+        AnnotationCache cache = new AnnotationCache();
+        new AnnotationCacheBuilder(SupportedAnnotations.values(), Collections.emptySet()).build(LazyEntity.class, cache);
+        return cache;
+    }
+
+    @Benchmark
+    public String formatterFormat() {
+        return Formatter
+                .of("Significant fields: equals relies on %%, but hashCode does not.\n  %% has hashCode %%", smallPojo,
+                    wideEntity, wideEntity.hashCode())
+                .format();
+    }
+
+    private static <T> Configuration<T> configurationFor(Class<T> type) {
+        return Configuration
+                .build(
+                    type,
+                    Collections.emptySet(),
+                    Collections.emptySet(),
+                    Collections.emptySet(),
+                    Collections.emptySet(),
+                    null,
+                    false,
+                    null,
+                    false,
+                    EnumSet.of(Warning.NONFINAL_FIELDS),
+                    null,
+                    Collections.emptySet(),
+                    Collections.emptySet(),
+                    Collections.emptyList(),
+                    Collections.emptyList());
+    }
+}
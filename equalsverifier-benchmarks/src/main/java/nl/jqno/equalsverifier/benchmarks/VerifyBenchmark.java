@@ -0,0 +1,54 @@
+package nl.jqno.equalsverifier.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+import nl.jqno.equalsverifier.Warning;
+import nl.jqno.equalsverifier.benchmarks.types.*;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures complete verifications of representative shapes of classes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VerifyBenchmark {
+
+    @Benchmark
+    public void smallPojo() {
+        EqualsVerifier.forClass(SmallPojo.class).verify();
+    }
+
+    @Benchmark
+    public void wideEntity() {
+        EqualsVerifier.forClass(WideEntity.class).suppress(Warning.NONFINAL_FIELDS).verify();
+    }
+
+    @Benchmark
+    public void record() {
+        EqualsVerifier.forClass(SmallRecord.class).verify();
+    }
+
+    @Benchmark
+    public void genericHierarchy() {
+        EqualsVerifier.forClass(GenericHierarchy.Leaf.class).suppress(Warning.NONFINAL_FIELDS).verify();
+    }
+
+    @Benchmark
+    public void jpaEntity() {
+        EqualsVerifier.forClass(LazyEntity.class).verify();
+    }
+
+    @Benchmark
+    public void sealedHierarchy() {
+        EqualsVerifier.forClass(SealedHierarchy.class).verify();
+    }
+
+    @Benchmark
+    public void forPackage() {
+        EqualsVerifier.forPackage("nl.jqno.equalsverifier.benchmarks.types.pkg").verify();
+    }
+}
@@ -0,0 +1,58 @@
+package nl.jqno.equalsverifier.benchmarks.types;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A deep generic hierarchy: {@link Leaf} inherits its state from four levels of generic superclasses, which don't
+ * override equals and hashCode themselves.
+ */
+public final class GenericHierarchy {
+
+    private GenericHierarchy() {}
+
+    public abstract static class Level1<A> {
+
+        protected A first;
+    }
+
+    public abstract static class Level2<A, B> extends Level1<A> {
+
+        protected List<B> second;
+    }
+
+    public abstract static class Level3<A, B, C> extends Level2<A, B> {
+
+        protected Map<B, C> third;
+    }
+
+    public abstract static class Level4<A, B, C> extends Level3<A, B, C> {
+
+        protected Optional<C> fourth;
+    }
+
+    public static final class Leaf extends Level4<String, Integer, Long> {
+
+        private final int own;
+
+        public Leaf(int own) {
+            this.own = own;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Leaf other)) {
+                return false;
+            }
+            return own == other.own && Objects.equals(first, other.first) && Objects.equals(second, other.second)
+                    && Objects.equals(third, other.third) && Objects.equals(fourth, other.fourth);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(own, first, second, third, fourth);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package nl.jqno.equalsverifier.benchmarks.types;
+
+import java.util.List;
+import java.util.Objects;
+
+import jakarta.persistence.*;
+
+/**
+ * A JPA entity with lazily loaded fields. Its {@code equals} and {@code hashCode} don't use the {@code @Id} field, which
+ * is EqualsVerifier's default expectation for entities.
+ */
+@Entity
+public class LazyEntity {
+
+    @Id
+    private long id;
+
+    @Basic(fetch = FetchType.LAZY)
+    private String description;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    private SmallPojo owner;
+
+    @OneToMany(fetch = FetchType.LAZY)
+    private List<SmallPojo> children;
+
+    @ElementCollection(fetch = FetchType.LAZY)
+    private List<String> labels;
+
+    public long getId() {
+        return id;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public SmallPojo getOwner() {
+        return owner;
+    }
+
+    public List<SmallPojo> getChildren() {
+        return children;
+    }
+
+    public List<String> getLabels() {
+        return labels;
+    }
+
+    @Override
+    public final boolean equals(Object obj) {
+        if (!(obj instanceof LazyEntity other)) {
+            return false;
+        }
+        return Objects.equals(getDescription(), other.getDescription())
+                && Objects.equals(getOwner(), other.getOwner())
+                && Objects.equals(getChildren(), other.getChildren())
+                && Objects.equals(getLabels(), other.getLabels());
+    }
+
+    @Override
+    public final int hashCode() {
+        return Objects.hash(getDescription(), getOwner(), getChildren(), getLabels());
+    }
+}
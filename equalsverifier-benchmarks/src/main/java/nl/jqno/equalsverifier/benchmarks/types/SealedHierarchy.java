@@ -0,0 +1,68 @@
+package nl.jqno.equalsverifier.benchmarks.types;
+
+import java.util.Objects;
+
+/**
+ * A class that contains fields of sealed types, so EqualsVerifier has to find instantiable subtypes for them.
+ */
+public final class SealedHierarchy {
+
+    private final Shape shape;
+    private final Vehicle vehicle;
+
+    public SealedHierarchy(Shape shape, Vehicle vehicle) {
+        this.shape = shape;
+        this.vehicle = vehicle;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof SealedHierarchy other
+                && Objects.equals(shape, other.shape)
+                && Objects.equals(vehicle, other.vehicle);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(shape, vehicle);
+    }
+
+    public sealed interface Shape permits Circle, Rectangle {}
+
+    public record Circle(double radius) implements Shape {}
+
+    public record Rectangle(double width, double height) implements Shape {}
+
+    public abstract static sealed class Vehicle permits Car, Bicycle {
+
+        private final String name;
+
+        protected Vehicle(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public final boolean equals(Object obj) {
+            return obj instanceof Vehicle other && Objects.equals(name, other.name);
+        }
+
+        @Override
+        public final int hashCode() {
+            return Objects.hashCode(name);
+        }
+    }
+
+    public static final class Car extends Vehicle {
+
+        public Car(String name) {
+            super(name);
+        }
+    }
+
+    public static final class Bicycle extends Vehicle {
+
+        public Bicycle(String name) {
+            super(name);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package nl.jqno.equalsverifier.benchmarks.types;
+
+import java.util.Objects;
+
+public final class SmallPojo {
+
+    private final int id;
+    private final String name;
+    private final boolean active;
+
+    public SmallPojo(int id, String name, boolean active) {
+        this.id = id;
+        this.name = name;
+        this.active = active;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof SmallPojo other)) {
+            return false;
+        }
+        return id == other.id && active == other.active && Objects.equals(name, other.name);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, name, active);
+    }
+}
@@ -0,0 +1,6 @@
+package nl.jqno.equalsverifier.benchmarks.types;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record SmallRecord(long id, String name, LocalDate birthDate, List<String> tags) {}
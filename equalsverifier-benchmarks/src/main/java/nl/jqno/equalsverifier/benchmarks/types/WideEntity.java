@@ -0,0 +1,87 @@
+package nl.jqno.equalsverifier.benchmarks.types;
+
+import java.util.Arrays;
+
+/**
+ * A wide class with 60 fields of mixed types, to measure how verification scales with the number of fields.
+ */
+public final class WideEntity {
+
+    private int f00;
+    private String f01;
+    private long f02;
+    private double f03;
+    private boolean f04;
+    private Integer f05;
+    private int f06;
+    private String f07;
+    private long f08;
+    private double f09;
+    private boolean f10;
+    private Integer f11;
+    private int f12;
+    private String f13;
+    private long f14;
+    private double f15;
+    private boolean f16;
+    private Integer f17;
+    private int f18;
+    private String f19;
+    private long f20;
+    private double f21;
+    private boolean f22;
+    private Integer f23;
+    private int f24;
+    private String f25;
+    private long f26;
+    private double f27;
+    private boolean f28;
+    private Integer f29;
+    private int f30;
+    private String f31;
+    private long f32;
+    private double f33;
+    private boolean f34;
+    private Integer f35;
+    private int f36;
+    private String f37;
+    private long f38;
+    private double f39;
+    private boolean f40;
+    private Integer f41;
+    private int f42;
+    private String f43;
+    private long f44;
+    private double f45;
+    private boolean f46;
+    private Integer f47;
+    private int f48;
+    private String f49;
+    private long f50;
+    private double f51;
+    private boolean f52;
+    private Integer f53;
+    private int f54;
+    private String f55;
+    private long f56;
+    private double f57;
+    private boolean f58;
+    private Integer f59;
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof WideEntity other && Arrays.equals(values(), other.values());
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(values());
+    }
+
+    private Object[] values() {
+        return new Object[] { f00, f01, f02, f03, f04, f05, f06, f07, f08, f09, f10, f11, f12, f13, f14, f15, f16, f17,
+                f18, f19, f20, f21, f22, f23, f24, f25, f26, f27, f28, f29, f30, f31, f32, f33, f34, f35, f36, f37, f38,
+                f39, f40, f41, f42, f43, f44, f45, f46, f47, f48, f49, f50, f51, f52, f53, f54, f55, f56, f57, f58,
+                f59 };
+    }
+}
@@ -0,0 +1,30 @@
+package nl.jqno.equalsverifier.benchmarks.types.pkg;
+
+import java.util.Map;
+import java.util.Objects;
+
+public final class Account {
+
+    private final String iban;
+    private final Customer holder;
+    private final Map<String, Money> balances;
+
+    public Account(String iban, Customer holder, Map<String, Money> balances) {
+        this.iban = iban;
+        this.holder = holder;
+        this.balances = balances;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof Account other
+                && Objects.equals(iban, other.iban)
+                && Objects.equals(holder, other.holder)
+                && Objects.equals(balances, other.balances);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(iban, holder, balances);
+    }
+}
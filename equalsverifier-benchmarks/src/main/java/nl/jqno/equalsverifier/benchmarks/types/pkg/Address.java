@@ -0,0 +1,3 @@
+package nl.jqno.equalsverifier.benchmarks.types.pkg;
+
+public record Address(String street, int number, String city) {}
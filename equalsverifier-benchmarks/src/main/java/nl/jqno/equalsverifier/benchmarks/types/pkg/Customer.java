@@ -0,0 +1,3 @@
+package nl.jqno.equalsverifier.benchmarks.types.pkg;
+
+public record Customer(long id, String name, String email) {}
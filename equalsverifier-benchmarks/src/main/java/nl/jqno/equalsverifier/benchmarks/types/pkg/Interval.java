@@ -0,0 +1,5 @@
+package nl.jqno.equalsverifier.benchmarks.types.pkg;
+
+import java.time.LocalDate;
+
+public record Interval(LocalDate from, LocalDate to) {}
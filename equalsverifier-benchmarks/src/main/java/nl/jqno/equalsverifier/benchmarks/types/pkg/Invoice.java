@@ -0,0 +1,29 @@
+package nl.jqno.equalsverifier.benchmarks.types.pkg;
+
+import java.util.Objects;
+
+public final class Invoice {
+
+    private final long number;
+    private final Order order;
+    private final Interval period;
+
+    public Invoice(long number, Order order, Interval period) {
+        this.number = number;
+        this.order = order;
+        this.period = period;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof Invoice other
+                && number == other.number
+                && Objects.equals(order, other.order)
+                && Objects.equals(period, other.period);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(number, order, period);
+    }
+}
@@ -0,0 +1,3 @@
+package nl.jqno.equalsverifier.benchmarks.types.pkg;
+
+public record Money(long amountInCents, String currency) {}
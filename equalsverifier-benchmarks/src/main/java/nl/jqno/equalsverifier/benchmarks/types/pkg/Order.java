@@ -0,0 +1,30 @@
+package nl.jqno.equalsverifier.benchmarks.types.pkg;
+
+import java.util.List;
+import java.util.Objects;
+
+public final class Order {
+
+    private final long id;
+    private final Customer customer;
+    private final List<OrderLine> lines;
+
+    public Order(long id, Customer customer, List<OrderLine> lines) {
+        this.id = id;
+        this.customer = customer;
+        this.lines = lines;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof Order other
+                && id == other.id
+                && Objects.equals(customer, other.customer)
+                && Objects.equals(lines, other.lines);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, customer, lines);
+    }
+}
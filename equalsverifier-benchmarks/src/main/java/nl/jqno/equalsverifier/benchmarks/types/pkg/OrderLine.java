@@ -0,0 +1,29 @@
+package nl.jqno.equalsverifier.benchmarks.types.pkg;
+
+import java.util.Objects;
+
+public final class OrderLine {
+
+    private final String product;
+    private final int quantity;
+    private final Money price;
+
+    public OrderLine(String product, int quantity, Money price) {
+        this.product = product;
+        this.quantity = quantity;
+        this.price = price;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof OrderLine other
+                && Objects.equals(product, other.product)
+                && quantity == other.quantity
+                && Objects.equals(price, other.price);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(product, quantity, price);
+    }
+}
@@ -0,0 +1,30 @@
+package nl.jqno.equalsverifier.benchmarks.types.pkg;
+
+import java.util.Objects;
+import java.util.Set;
+
+public final class Shipment {
+
+    private final Address destination;
+    private final Set<Tag> tags;
+    private final boolean express;
+
+    public Shipment(Address destination, Set<Tag> tags, boolean express) {
+        this.destination = destination;
+        this.tags = tags;
+        this.express = express;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof Shipment other
+                && Objects.equals(destination, other.destination)
+                && Objects.equals(tags, other.tags)
+                && express == other.express;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(destination, tags, express);
+    }
+}
@@ -1,5 +1,7 @@
 package nl.jqno.equalsverifier;
 
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.List;
@@ -12,6 +14,7 @@ import nl.jqno.equalsverifier.api.MultipleTypeEqualsVerifierApi;
 import nl.jqno.equalsverifier.api.SingleTypeEqualsVerifierApi;
 import nl.jqno.equalsverifier.internal.instantiation.vintage.FactoryCache;
 import nl.jqno.equalsverifier.internal.instantiation.vintage.PrefabValuesApi;
+import nl.jqno.equalsverifier.internal.instantiation.vintage.TupleCache;
 import nl.jqno.equalsverifier.internal.reflection.PackageScanner;
 import nl.jqno.equalsverifier.internal.util.ListBuilders;
 import nl.jqno.equalsverifier.internal.util.Validations;
@@ -22,38 +25,87 @@ public final class ConfiguredEqualsVerifier implements EqualsVerifierApi<Void> {
 
     private final EnumSet<Warning> warningsToSuppress;
     private final FactoryCache factoryCache;
+    private TupleCache tupleCache;
     private boolean usingGetClass;
     private Function<String, String> fieldnameToGetter;
+    private Path resultCacheDirectory;
+    private boolean collectMetrics;
+    private final List<EqualsVerifierListener> listeners;
+    private boolean parallelFieldChecks;
     private final Objenesis objenesis = new ObjenesisStd();
 
     /** Constructor. */
     public ConfiguredEqualsVerifier() {
-        this(EnumSet.noneOf(Warning.class), new FactoryCache(), false, null);
+        this(EnumSet.noneOf(Warning.class),
+                new FactoryCache(),
+                new TupleCache(),
+                false,
+                null,
+                null,
+                false,
+                new ArrayList<>(),
+                false);
     }
 
+    // CHECKSTYLE OFF: ParameterNumber
     /** Private constructor. For internal use only. */
     private ConfiguredEqualsVerifier(
             EnumSet<Warning> warningsToSuppress,
             FactoryCache factoryCache,
+            TupleCache tupleCache,
             boolean usingGetClass,
-            Function<String, String> fieldnameToGetter) {
+            Function<String, String> fieldnameToGetter,
+            Path resultCacheDirectory,
+            boolean collectMetrics,
+            List<EqualsVerifierListener> listeners,
+            boolean parallelFieldChecks) {
         this.warningsToSuppress = warningsToSuppress;
         this.factoryCache = factoryCache;
+        this.tupleCache = tupleCache;
         this.usingGetClass = usingGetClass;
         this.fieldnameToGetter = fieldnameToGetter;
+        this.resultCacheDirectory = resultCacheDirectory;
+        this.collectMetrics = collectMetrics;
+        this.listeners = listeners;
+        this.parallelFieldChecks = parallelFieldChecks;
     }
 
+    // CHECKSTYLE ON: ParameterNumber
+
     /**
      * Returns a copy of the configuration.
      *
+     * <p>
+     * The copy shares the values that were cached by this configuration, until prefab values are added to either of
+     * them.
+     *
      * @return a copy of the configuration.
      */
     @CheckReturnValue
     public ConfiguredEqualsVerifier copy() {
         return new ConfiguredEqualsVerifier(EnumSet.copyOf(warningsToSuppress),
                 factoryCache.copy(),
+                tupleCache,
                 usingGetClass,
-                fieldnameToGetter);
+                fieldnameToGetter,
+                resultCacheDirectory,
+                collectMetrics,
+                new ArrayList<>(listeners),
+                parallelFieldChecks);
+    }
+
+    /**
+     * Releases the values that were generated and cached while verifying classes with this configuration.
+     *
+     * <p>
+     * All classes that are verified through the same {@code ConfiguredEqualsVerifier}, for instance via
+     * {@link #forPackage(String)}, share the values that EqualsVerifier generates for the types of their fields, unless
+     * the class has its own prefab values. This makes verifying many classes that refer to the same types faster, but
+     * it keeps those values in memory for as long as this configuration is reachable. Call this method to release them
+     * if the configuration is long-lived. The configuration remains usable afterwards.
+     */
+    public void clearCache() {
+        tupleCache.clear();
     }
 
     /** {@inheritDoc} */
@@ -69,6 +121,7 @@ public final class ConfiguredEqualsVerifier implements EqualsVerifierApi<Void> {
     @CheckReturnValue
     public <S> ConfiguredEqualsVerifier withPrefabValues(Class<S> otherType, S red, S blue) {
         PrefabValuesApi.addPrefabValues(factoryCache, objenesis, otherType, red, blue);
+        tupleCache = new TupleCache();
         return this;
     }
 
@@ -77,6 +130,7 @@ public final class ConfiguredEqualsVerifier implements EqualsVerifierApi<Void> {
     @CheckReturnValue
     public <S> ConfiguredEqualsVerifier withGenericPrefabValues(Class<S> otherType, Func1<?, S> factory) {
         PrefabValuesApi.addGenericPrefabValues(factoryCache, otherType, factory);
+        tupleCache = new TupleCache();
         return this;
     }
 
@@ -85,6 +139,7 @@ public final class ConfiguredEqualsVerifier implements EqualsVerifierApi<Void> {
     @CheckReturnValue
     public <S> ConfiguredEqualsVerifier withGenericPrefabValues(Class<S> otherType, Func2<?, ?, S> factory) {
         PrefabValuesApi.addGenericPrefabValues(factoryCache, otherType, factory);
+        tupleCache = new TupleCache();
         return this;
     }
 
@@ -103,6 +158,59 @@ public final class ConfiguredEqualsVerifier implements EqualsVerifierApi<Void> {
         return this;
     }
 
+    /**
+     * Skips the verification of classes that haven't changed since the last time they were verified successfully
+     * with the same configuration.
+     *
+     * @param directory The directory in which to store the fingerprints of successful verifications.
+     * @return {@code this}, for easy method chaining.
+     * @see SingleTypeEqualsVerifierApi#withResultCache(Path)
+     */
+    @CheckReturnValue
+    public ConfiguredEqualsVerifier withResultCache(Path directory) {
+        Validations.validateNotNull(directory, "result cache directory is null.");
+        this.resultCacheDirectory = directory;
+        return this;
+    }
+
+    /**
+     * Collects timings and counters while verifying, and adds them to the reports.
+     *
+     * @return {@code this}, for easy method chaining.
+     * @see SingleTypeEqualsVerifierApi#withMetrics()
+     */
+    @CheckReturnValue
+    public ConfiguredEqualsVerifier withMetrics() {
+        this.collectMetrics = true;
+        return this;
+    }
+
+    /**
+     * Registers a listener that is notified while verifying each class.
+     *
+     * @param listener The listener to notify.
+     * @return {@code this}, for easy method chaining.
+     * @see SingleTypeEqualsVerifierApi#withListener(EqualsVerifierListener)
+     */
+    @CheckReturnValue
+    public ConfiguredEqualsVerifier withListener(EqualsVerifierListener listener) {
+        Validations.validateNotNull(listener, "listener is null.");
+        this.listeners.add(listener);
+        return this;
+    }
+
+    /**
+     * Checks several fields of each class at the same time.
+     *
+     * @return {@code this}, for easy method chaining.
+     * @see SingleTypeEqualsVerifierApi#withParallelFieldChecks()
+     */
+    @CheckReturnValue
+    public ConfiguredEqualsVerifier withParallelFieldChecks() {
+        this.parallelFieldChecks = true;
+        return this;
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -124,12 +232,23 @@ public final class ConfiguredEqualsVerifier implements EqualsVerifierApi<Void> {
      */
     @CheckReturnValue
     public <T> SingleTypeEqualsVerifierApi<T> forClass(Class<T> type) {
-        return new SingleTypeEqualsVerifierApi<>(type,
+        SingleTypeEqualsVerifierApi<T> result = new SingleTypeEqualsVerifierApi<>(type,
                 EnumSet.copyOf(warningsToSuppress),
                 factoryCache.copy(),
+                tupleCache,
                 objenesis,
                 usingGetClass,
                 fieldnameToGetter);
+        if (collectMetrics) {
+            result = result.withMetrics();
+        }
+        for (EqualsVerifierListener listener : listeners) {
+            result = result.withListener(listener);
+        }
+        if (parallelFieldChecks) {
+            result = result.withParallelFieldChecks();
+        }
+        return resultCacheDirectory == null ? result : result.withResultCache(resultCacheDirectory);
     }
 
     /**
@@ -7,7 +7,10 @@ import nl.jqno.equalsverifier.api.MultipleTypeEqualsVerifierApi;
 import nl.jqno.equalsverifier.api.RelaxedEqualsVerifierApi;
 import nl.jqno.equalsverifier.api.SingleTypeEqualsVerifierApi;
 import nl.jqno.equalsverifier.internal.reflection.PackageScanner;
+import nl.jqno.equalsverifier.internal.reflection.annotations.AnnotationCacheBuilder;
+import nl.jqno.equalsverifier.internal.util.ClassCache;
 import nl.jqno.equalsverifier.internal.util.ListBuilders;
+import nl.jqno.equalsverifier.internal.util.ResultCache;
 import nl.jqno.equalsverifier.internal.util.Validations;
 
 /**
@@ -192,4 +195,20 @@ public final class EqualsVerifier {
 
         return new RelaxedEqualsVerifierApi<>(type, examples);
     }
+
+    /**
+     * Releases everything that EqualsVerifier caches between verifications, such as information about the structure
+     * of classes, the subclasses it generates and the fingerprints of {@code withResultCache(Path)}.
+     *
+     * <p>
+     * None of these caches keep a class or its classloader alive by themselves. However, when EqualsVerifier itself is
+     * loaded by a classloader that is discarded later, as can happen in long-lived build daemons and in development
+     * servers that reload classes, the caches keep that classloader alive. Call this method before discarding it. It's
+     * safe to call at any time, but verifications that run at the same time may fill the caches again.
+     */
+    public static void clearCaches() {
+        ClassCache.clearAll();
+        ResultCache.clearMemory();
+        AnnotationCacheBuilder.clearTypePools();
+    }
 }
@@ -0,0 +1,89 @@
+package nl.jqno.equalsverifier;
+
+import java.time.Duration;
+
+/**
+ * Receives callbacks while EqualsVerifier verifies a class. Register it with
+ * {@link nl.jqno.equalsverifier.api.SingleTypeEqualsVerifierApi#withListener(EqualsVerifierListener)} or
+ * {@link ConfiguredEqualsVerifier#withListener(EqualsVerifierListener)}.
+ *
+ * <p>
+ * All methods do nothing by default, so only the callbacks of interest need to be overridden.
+ *
+ * <p>
+ * Callbacks are made on the thread that performs the verification. When several classes are verified in parallel, the
+ * same listener is called from several threads at once, so implementations must be thread-safe. A listener that
+ * throws an exception causes the verification to fail.
+ */
+public interface EqualsVerifierListener {
+
+    /**
+     * Called before the verification of {@code type} starts.
+     *
+     * @param type The class under test.
+     */
+    default void verificationStarted(Class<?> type) {}
+
+    /**
+     * Called after the verification of {@code type} has finished, whether it was successful or not.
+     *
+     * @param type       The class under test.
+     * @param successful Whether {@code type} meets the contracts for {@code equals} and {@code hashCode}.
+     * @param elapsed    How long the verification took.
+     */
+    default void verificationFinished(Class<?> type, boolean successful, Duration elapsed) {}
+
+    /**
+     * Called when the verification of {@code type} fails, just before
+     * {@link #verificationFinished(Class, boolean, Duration)}.
+     *
+     * @param type    The class under test.
+     * @param message The error message, as it appears in the {@link EqualsVerifierReport}.
+     * @param cause   The exception that caused the failure.
+     */
+    default void verificationFailed(Class<?> type, String message, Throwable cause) {}
+
+    /**
+     * Called before one of EqualsVerifier's checkers starts.
+     *
+     * @param type    The class under test.
+     * @param checker The name of the checker, for instance {@code "SignatureChecker"}.
+     */
+    default void checkerStarted(Class<?> type, String checker) {}
+
+    /**
+     * Called after one of EqualsVerifier's checkers has finished, whether it found a problem or not.
+     *
+     * @param type    The class under test.
+     * @param checker The name of the checker, for instance {@code "SignatureChecker"}.
+     * @param elapsed How long the checker took.
+     */
+    default void checkerFinished(Class<?> type, String checker, Duration elapsed) {}
+
+    /**
+     * Called before a check is performed on a single field.
+     *
+     * @param type  The class under test.
+     * @param check The name of the check, for instance {@code "SignificantFieldCheck"}.
+     * @param field The name of the field.
+     */
+    default void fieldCheckStarted(Class<?> type, String check, String field) {}
+
+    /**
+     * Called after a check was performed on a single field, whether it found a problem or not.
+     *
+     * @param type    The class under test.
+     * @param check   The name of the check, for instance {@code "SignificantFieldCheck"}.
+     * @param field   The name of the field.
+     * @param elapsed How long the check took.
+     */
+    default void fieldCheckFinished(Class<?> type, String check, String field, Duration elapsed) {}
+
+    /**
+     * Called when EqualsVerifier has generated values for a type that it hadn't encountered before.
+     *
+     * @param type      The class under test.
+     * @param valueType The type of the generated values.
+     */
+    default void valueGenerated(Class<?> type, Class<?> valueType) {}
+}
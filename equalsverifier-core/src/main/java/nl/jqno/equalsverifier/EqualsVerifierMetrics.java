@@ -0,0 +1,146 @@
+package nl.jqno.equalsverifier;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Contains timings and counters that were collected during an {@link nl.jqno.equalsverifier.EqualsVerifier} run.
+ *
+ * <p>
+ * Metrics are only collected when they're requested, for instance through
+ * {@link nl.jqno.equalsverifier.api.SingleTypeEqualsVerifierApi#withMetrics()}. They're available from
+ * {@link EqualsVerifierReport#getMetrics()}.
+ */
+public final class EqualsVerifierMetrics {
+
+    private final Duration wallTime;
+    private final Map<String, Duration> checkerTimes;
+    private final long subjectsCreated;
+    private final long valuesGenerated;
+    private final long dynamicSubclassesGenerated;
+    private final long fieldWrites;
+    private final long allocatedBytes;
+
+    /**
+     * Constructor.
+     *
+     * @param wallTime                   The time the verification took.
+     * @param checkerTimes               The time each checker took, in the order in which they ran.
+     * @param subjectsCreated            The number of instances of the class under test that were created.
+     * @param valuesGenerated            The number of field values that were generated.
+     * @param dynamicSubclassesGenerated The number of subclasses that were generated at runtime.
+     * @param fieldWrites                The number of reflective writes to fields.
+     * @param allocatedBytes             The number of bytes allocated by the verifying thread, or -1 if the JVM can't
+     *                                       measure this.
+     */
+    public EqualsVerifierMetrics(
+            Duration wallTime,
+            Map<String, Duration> checkerTimes,
+            long subjectsCreated,
+            long valuesGenerated,
+            long dynamicSubclassesGenerated,
+            long fieldWrites,
+            long allocatedBytes) {
+        this.wallTime = wallTime;
+        this.checkerTimes = Collections.unmodifiableMap(new LinkedHashMap<>(checkerTimes));
+        this.subjectsCreated = subjectsCreated;
+        this.valuesGenerated = valuesGenerated;
+        this.dynamicSubclassesGenerated = dynamicSubclassesGenerated;
+        this.fieldWrites = fieldWrites;
+        this.allocatedBytes = allocatedBytes;
+    }
+
+    /**
+     * Adds up the metrics of the given reports, for instance the reports returned by
+     * {@link nl.jqno.equalsverifier.api.MultipleTypeEqualsVerifierApi#report()}.
+     *
+     * <p>
+     * Reports without metrics are skipped. Times are added up as well, so when the reports were created concurrently,
+     * the aggregated wall time will exceed the time that actually elapsed.
+     *
+     * @param reports The reports to aggregate.
+     * @return The sum of the metrics of the given reports.
+     */
+    public static EqualsVerifierMetrics aggregate(Collection<EqualsVerifierReport> reports) {
+        Duration wallTime = Duration.ZERO;
+        Map<String, Duration> checkerTimes = new LinkedHashMap<>();
+        long subjectsCreated = 0;
+        long valuesGenerated = 0;
+        long dynamicSubclassesGenerated = 0;
+        long fieldWrites = 0;
+        long allocatedBytes = -1;
+        for (EqualsVerifierReport report : reports) {
+            EqualsVerifierMetrics m = report.getMetrics();
+            if (m == null) {
+                continue;
+            }
+            wallTime = wallTime.plus(m.wallTime);
+            m.checkerTimes.forEach((name, time) -> checkerTimes.merge(name, time, Duration::plus));
+            subjectsCreated += m.subjectsCreated;
+            valuesGenerated += m.valuesGenerated;
+            dynamicSubclassesGenerated += m.dynamicSubclassesGenerated;
+            fieldWrites += m.fieldWrites;
+            allocatedBytes = m.allocatedBytes < 0 ? allocatedBytes : Math.max(allocatedBytes, 0) + m.allocatedBytes;
+        }
+        return new EqualsVerifierMetrics(wallTime,
+                checkerTimes,
+                subjectsCreated,
+                valuesGenerated,
+                dynamicSubclassesGenerated,
+                fieldWrites,
+                allocatedBytes);
+    }
+
+    /** @return the time the verification took. */
+    public Duration getWallTime() {
+        return wallTime;
+    }
+
+    /**
+     * Returns the time each checker took, in the order in which they ran. Checks that run once for every field, are
+     * listed under the name of the checker that ran them, e.g. {@code FieldsChecker.SignificantFieldCheck}; their
+     * times are included in that checker's time as well.
+     *
+     * @return the time each checker took.
+     */
+    public Map<String, Duration> getCheckerTimes() {
+        return checkerTimes;
+    }
+
+    /** @return the number of instances of the class under test that were created. */
+    public long getSubjectsCreated() {
+        return subjectsCreated;
+    }
+
+    /** @return the number of field values that were generated, not counting values that were cached. */
+    public long getValuesGenerated() {
+        return valuesGenerated;
+    }
+
+    /** @return the number of subclasses that were generated at runtime, not counting subclasses that were cached. */
+    public long getDynamicSubclassesGenerated() {
+        return dynamicSubclassesGenerated;
+    }
+
+    /** @return the number of reflective writes to fields. */
+    public long getFieldWrites() {
+        return fieldWrites;
+    }
+
+    /** @return the number of bytes allocated by the verifying thread, or -1 if the JVM can't measure this. */
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return "EqualsVerifierMetrics[wallTime=" + wallTime + ", checkerTimes=" + checkerTimes + ", subjectsCreated="
+                + subjectsCreated + ", valuesGenerated=" + valuesGenerated + ", dynamicSubclassesGenerated="
+                + dynamicSubclassesGenerated + ", fieldWrites=" + fieldWrites + ", allocatedBytes=" + allocatedBytes
+                + "]";
+    }
+}
@@ -1,5 +1,9 @@
 package nl.jqno.equalsverifier;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 import nl.jqno.equalsverifier.api.SingleTypeEqualsVerifierApi;
 import nl.jqno.equalsverifier.internal.SuppressFBWarnings;
 
@@ -10,6 +14,10 @@ import nl.jqno.equalsverifier.internal.SuppressFBWarnings;
  * When the run was successful, should contain an empty message and a null cause. When the run was unsuccessful, the
  * message is identical to the message of the exception that {@link SingleTypeEqualsVerifierApi#verify()} would throw,
  * and the cause would be identical to its cause.
+ *
+ * <p>
+ * When the run was made with {@link ReportMode#ALL_FAILURES}, the message lists all problems that were found, the
+ * cause is the cause of the first problem, and {@link #getViolations()} contains the details of each problem.
  */
 public final class EqualsVerifierReport {
 
@@ -17,6 +25,8 @@ public final class EqualsVerifierReport {
     private final boolean successful;
     private final String message;
     private final Throwable cause;
+    private final EqualsVerifierMetrics metrics;
+    private final List<Violation> violations;
 
     /**
      * Factory method for a successful run of {@code EqualsVerifier}.
@@ -26,7 +36,19 @@ public final class EqualsVerifierReport {
      *     EqualsVerifier}.
      */
     public static EqualsVerifierReport success(Class<?> type) {
-        return new EqualsVerifierReport(type, true, "", null);
+        return success(type, null);
+    }
+
+    /**
+     * Factory method for a successful run of {@code EqualsVerifier}.
+     *
+     * @param type    The class that was tested.
+     * @param metrics The metrics that were collected during the run; may be null.
+     * @return an {@code EqualsVerifierReport} representing the successful result of a run of {@code
+     *     EqualsVerifier}.
+     */
+    public static EqualsVerifierReport success(Class<?> type, EqualsVerifierMetrics metrics) {
+        return new EqualsVerifierReport(type, true, "", null, metrics, Collections.emptyList());
     }
 
     /**
@@ -39,15 +61,67 @@ public final class EqualsVerifierReport {
      *     EqualsVerifier}.
      */
     public static EqualsVerifierReport failure(Class<?> type, String message, Throwable cause) {
-        return new EqualsVerifierReport(type, false, message, cause);
+        return failure(type, message, cause, null);
+    }
+
+    /**
+     * Factory method for an unsuccessful run of {@code EqualsVerifier}.
+     *
+     * @param type    The class that was tested.
+     * @param message Error message when the run is unsuccessful.
+     * @param cause   Exception when the run is unsuccessful.
+     * @param metrics The metrics that were collected during the run; may be null.
+     * @return an {@code EqualsVerifierReport} representing the failed result of a run of {@code
+     *     EqualsVerifier}.
+     */
+    public static EqualsVerifierReport failure(
+            Class<?> type,
+            String message,
+            Throwable cause,
+            EqualsVerifierMetrics metrics) {
+        Violation violation = new Violation(null, null, message, cause);
+        return failure(type, message, cause, metrics, Collections.singletonList(violation));
+    }
+
+    /**
+     * Factory method for an unsuccessful run of {@code EqualsVerifier}.
+     *
+     * @param type       The class that was tested.
+     * @param message    Error message when the run is unsuccessful.
+     * @param cause      Exception when the run is unsuccessful.
+     * @param metrics    The metrics that were collected during the run; may be null.
+     * @param violations The problems that were found; should not be empty.
+     * @return an {@code EqualsVerifierReport} representing the failed result of a run of {@code
+     *     EqualsVerifier}.
+     */
+    public static EqualsVerifierReport failure(
+            Class<?> type,
+            String message,
+            Throwable cause,
+            EqualsVerifierMetrics metrics,
+            List<Violation> violations) {
+        return new EqualsVerifierReport(type,
+                false,
+                message,
+                cause,
+                metrics,
+                Collections.unmodifiableList(new ArrayList<>(violations)));
     }
 
     /** Private constructor. Use {@link #SUCCESS} or {@link #failure(String, Throwable)} instead. */
-    private EqualsVerifierReport(Class<?> type, boolean successful, String message, Throwable cause) {
+    private EqualsVerifierReport(
+            Class<?> type,
+            boolean successful,
+            String message,
+            Throwable cause,
+            EqualsVerifierMetrics metrics,
+            List<Violation> violations) {
         this.type = type;
         this.successful = successful;
         this.message = message;
         this.cause = cause;
+        this.metrics = metrics;
+        this.violations = violations;
     }
 
     /** @return the class that was tested. */
@@ -81,4 +155,79 @@ public final class EqualsVerifierReport {
     public Throwable getCause() {
         return cause;
     }
+
+    /**
+     * @return the timings and counters that were collected while testing the class, if they were requested with
+     *             {@link SingleTypeEqualsVerifierApi#withMetrics()}; or null if they weren't.
+     */
+    public EqualsVerifierMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * @return the problems that were found, in the order in which they were found; or an empty list if the class
+     *             conforms to the {@link Object#equals(Object)} and {@link Object#hashCode()} contracts. Unless the
+     *             report was made with {@link ReportMode#ALL_FAILURES}, there is at most one.
+     */
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP", justification = "The list is unmodifiable.")
+    public List<Violation> getViolations() {
+        return violations;
+    }
+
+    /**
+     * A single problem that was found by {@link nl.jqno.equalsverifier.EqualsVerifier}.
+     */
+    public static final class Violation {
+
+        private final String check;
+        private final String field;
+        private final String message;
+        private final Throwable cause;
+
+        /**
+         * Constructor.
+         *
+         * @param check   The name of the check that found the problem; may be null.
+         * @param field   The name of the field for which the problem was found; may be null.
+         * @param message The description of the problem.
+         * @param cause   The exception that signalled the problem.
+         */
+        @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "Can't defensively copy a Throwable.")
+        public Violation(String check, String field, String message, Throwable cause) {
+            this.check = check;
+            this.field = field;
+            this.message = message;
+            this.cause = cause;
+        }
+
+        /**
+         * @return the name of the check that found the problem, for instance {@code "HierarchyChecker"} or
+         *             {@code "SignificantFieldCheck"}; or null if it isn't known, which is the case for reports that
+         *             weren't made with {@link ReportMode#ALL_FAILURES}.
+         */
+        public String getCheck() {
+            return check;
+        }
+
+        /** @return the name of the field for which the problem was found, or null if it's not about a single field. */
+        public String getField() {
+            return field;
+        }
+
+        /** @return the description of the problem. */
+        public String getMessage() {
+            return message;
+        }
+
+        /** @return the exception that signalled the problem. */
+        @SuppressFBWarnings(value = "EI_EXPOSE_REP", justification = "Can't defensively copy a Throwable.")
+        public Throwable getCause() {
+            return cause;
+        }
+
+        @Override
+        public String toString() {
+            return (check == null ? "" : check + (field == null ? "" : " on " + field) + ": ") + message;
+        }
+    }
 }
@@ -0,0 +1,25 @@
+package nl.jqno.equalsverifier;
+
+import nl.jqno.equalsverifier.api.SingleTypeEqualsVerifierApi;
+
+/**
+ * Determines how many problems {@link SingleTypeEqualsVerifierApi#report(ReportMode)} looks for.
+ */
+public enum ReportMode {
+    /**
+     * Stops at the first problem. This is what {@link SingleTypeEqualsVerifierApi#verify()} and
+     * {@link SingleTypeEqualsVerifierApi#report()} do.
+     */
+    FIRST_FAILURE,
+
+    /**
+     * Continues with the remaining checks and fields after a problem is found, and reports all of them at once.
+     *
+     * <p>
+     * A check on a field still stops at its own first problem, and some problems, such as a recursive data structure
+     * or a missing prefab value, make it impossible to continue at all. Also, one problem can cause another: for
+     * instance, a field that is missing from {@code equals} can fail several checks. Fixing the first problem in the
+     * list can therefore make some of the others disappear.
+     */
+    ALL_FAILURES
+}
@@ -1,7 +1,11 @@
 package nl.jqno.equalsverifier.api;
 
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -11,6 +15,7 @@ import nl.jqno.equalsverifier.Func.Func1;
 import nl.jqno.equalsverifier.Func.Func2;
 import nl.jqno.equalsverifier.internal.SuppressFBWarnings;
 import nl.jqno.equalsverifier.internal.util.*;
+import nl.jqno.equalsverifier.internal.versionspecific.ExecutorHelper;
 
 /**
  * Helps to construct an {@link EqualsVerifier} test for several types at once with a fluent API.
@@ -19,6 +24,8 @@ public class MultipleTypeEqualsVerifierApi implements EqualsVerifierApi<Void> {
 
     private final List<Class<?>> types;
     private final ConfiguredEqualsVerifier ev;
+    private boolean parallel = false;
+    private ExecutorService executor = null;
 
     public MultipleTypeEqualsVerifierApi(List<Class<?>> types, ConfiguredEqualsVerifier ev) {
         this.types = new ArrayList<>(types);
@@ -83,6 +90,66 @@ public class MultipleTypeEqualsVerifierApi implements EqualsVerifierApi<Void> {
         return this;
     }
 
+    /**
+     * Skips the verification of classes that haven't changed since the last time they were verified successfully
+     * with the same configuration.
+     *
+     * @param directory The directory in which to store the fingerprints of successful verifications.
+     * @return {@code this}, for easy method chaining.
+     * @see SingleTypeEqualsVerifierApi#withResultCache(Path)
+     */
+    @CheckReturnValue
+    @SuppressFBWarnings(value = "RV_RETURN_VALUE_IGNORED", justification = "Set result cache on ev, but return `this`")
+    public MultipleTypeEqualsVerifierApi withResultCache(Path directory) {
+        ev.withResultCache(directory);
+        return this;
+    }
+
+    /**
+     * Collects timings and counters while verifying, and adds them to the reports that are returned by
+     * {@link #report()}. Use {@link EqualsVerifierMetrics#aggregate(java.util.Collection)} to add them up.
+     *
+     * @return {@code this}, for easy method chaining.
+     * @see SingleTypeEqualsVerifierApi#withMetrics()
+     */
+    @CheckReturnValue
+    @SuppressFBWarnings(value = "RV_RETURN_VALUE_IGNORED", justification = "Set metrics on ev, but return `this`")
+    public MultipleTypeEqualsVerifierApi withMetrics() {
+        ev.withMetrics();
+        return this;
+    }
+
+    /**
+     * Registers a listener that is notified while verifying each class. When the classes are verified in parallel,
+     * the listener is called from several threads at once.
+     *
+     * @param listener The listener to notify.
+     * @return {@code this}, for easy method chaining.
+     * @see SingleTypeEqualsVerifierApi#withListener(EqualsVerifierListener)
+     */
+    @CheckReturnValue
+    @SuppressFBWarnings(value = "RV_RETURN_VALUE_IGNORED", justification = "Set listener on ev, but return `this`")
+    public MultipleTypeEqualsVerifierApi withListener(EqualsVerifierListener listener) {
+        ev.withListener(listener);
+        return this;
+    }
+
+    /**
+     * Checks several fields of each class at the same time. This can be combined with {@link #parallel()}, which
+     * verifies several classes at the same time.
+     *
+     * @return {@code this}, for easy method chaining.
+     * @see SingleTypeEqualsVerifierApi#withParallelFieldChecks()
+     */
+    @CheckReturnValue
+    @SuppressFBWarnings(
+            value = "RV_RETURN_VALUE_IGNORED",
+            justification = "Set parallel field checks on ev, but return `this`")
+    public MultipleTypeEqualsVerifierApi withParallelFieldChecks() {
+        ev.withParallelFieldChecks();
+        return this;
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -122,6 +189,41 @@ public class MultipleTypeEqualsVerifierApi implements EqualsVerifierApi<Void> {
         return this;
     }
 
+    /**
+     * Verifies the types concurrently instead of one after the other.
+     *
+     * <p>
+     * EqualsVerifier creates a thread pool for the duration of the call to {@link #verify()} or {@link #report()}, and
+     * shuts it down afterwards. On Java 21 and later, it uses virtual threads. The reports are returned in the same
+     * order as the types were given, regardless of the order in which they complete.
+     *
+     * @return {@code this}, for easy method chaining.
+     */
+    @CheckReturnValue
+    public MultipleTypeEqualsVerifierApi parallel() {
+        this.parallel = true;
+        return this;
+    }
+
+    /**
+     * Verifies the types concurrently on the given {@link ExecutorService}, instead of one after the other.
+     *
+     * <p>
+     * EqualsVerifier does not shut down the given {@code ExecutorService}; that remains the responsibility of the
+     * caller. The reports are returned in the same order as the types were given, regardless of the order in which
+     * they complete.
+     *
+     * @param executorService The {@code ExecutorService} on which to run the verifications.
+     * @return {@code this}, for easy method chaining.
+     */
+    @CheckReturnValue
+    public MultipleTypeEqualsVerifierApi withExecutor(ExecutorService executorService) {
+        Validations.validateNotNull(executorService, "executorService is null.");
+        this.parallel = true;
+        this.executor = executorService;
+        return this;
+    }
+
     private void removeTypes(List<Class<?>> typesToRemove) {
         Validations.validateTypesAreKnown(typesToRemove, types);
         types.removeAll(typesToRemove);
@@ -156,10 +258,61 @@ public class MultipleTypeEqualsVerifierApi implements EqualsVerifierApi<Void> {
      * Performs the verifications of the contracts for {@code equals} and {@code hashCode} and returns a List of
      * {@link EqualsVerifierReport} with the results of the verifications.
      *
+     * <p>
+     * If {@link #withMetrics()} was called, each report contains the metrics for its own type. Use
+     * {@link EqualsVerifierMetrics#aggregate(java.util.Collection)} to add them up.
+     *
      * @return A List of {@link EqualsVerifierReport} that indicates whether the contracts are met and whether
      *             {@link EqualsVerifier}'s preconditions hold.
      */
     public List<EqualsVerifierReport> report() {
-        return types.stream().map(t -> ev.forClass(t).report(false)).collect(Collectors.toList());
+        if (!parallel) {
+            return types.stream().map(t -> ev.forClass(t).report(false)).collect(Collectors.toList());
+        }
+
+        ExecutorService service = executor == null ? ExecutorHelper.newExecutor() : executor;
+        List<Future<EqualsVerifierReport>> futures = new ArrayList<>();
+        try {
+            for (Class<?> type : types) {
+                SingleTypeEqualsVerifierApi<?> api = ev.forClass(type);
+                futures.add(service.submit(() -> api.report(false)));
+            }
+
+            List<EqualsVerifierReport> result = new ArrayList<>();
+            for (Future<EqualsVerifierReport> future : futures) {
+                result.add(await(future));
+            }
+            return result;
+        }
+        finally {
+            // If a verification failed or we were interrupted, don't leave the others running in the background.
+            // Cancelling a future that has already completed has no effect.
+            for (Future<EqualsVerifierReport> future : futures) {
+                future.cancel(true);
+            }
+            if (executor == null) {
+                service.shutdownNow();
+            }
+        }
+    }
+
+    private static <R> R await(Future<R> future) {
+        try {
+            return future.get();
+        }
+        catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while verifying classes in parallel.", e);
+        }
     }
 }
@@ -1,18 +1,22 @@
 package nl.jqno.equalsverifier.api;
 
+import java.nio.file.Path;
 import java.util.*;
 import java.util.function.Function;
 
 import nl.jqno.equalsverifier.*;
 import nl.jqno.equalsverifier.Func.Func1;
 import nl.jqno.equalsverifier.Func.Func2;
+import nl.jqno.equalsverifier.internal.SuppressFBWarnings;
 import nl.jqno.equalsverifier.internal.checkers.*;
 import nl.jqno.equalsverifier.internal.exceptions.MessagingException;
 import nl.jqno.equalsverifier.internal.instantiation.vintage.FactoryCache;
 import nl.jqno.equalsverifier.internal.instantiation.vintage.PrefabValuesApi;
+import nl.jqno.equalsverifier.internal.instantiation.vintage.TupleCache;
 import nl.jqno.equalsverifier.internal.reflection.FieldCache;
 import nl.jqno.equalsverifier.internal.util.*;
 import nl.jqno.equalsverifier.internal.util.Formatter;
+import nl.jqno.equalsverifier.internal.versionspecific.FlightRecorderHelper;
 import org.objenesis.Objenesis;
 import org.objenesis.ObjenesisStd;
 
@@ -32,6 +36,7 @@ public class SingleTypeEqualsVerifierApi<T> implements EqualsVerifierApi<T> {
     private Class<? extends T> redefinedSubclass = null;
     private FactoryCache factoryCache = new FactoryCache();
     private FieldCache fieldCache = new FieldCache();
+    private TupleCache tupleCache = null;
     private CachedHashCodeInitializer<T> cachedHashCodeInitializer = CachedHashCodeInitializer.passthrough();
     private Function<String, String> fieldnameToGetter = null;
     private Set<String> allExcludedFields = new HashSet<>();
@@ -40,6 +45,10 @@ public class SingleTypeEqualsVerifierApi<T> implements EqualsVerifierApi<T> {
     private Set<String> ignoredAnnotationClassNames = new HashSet<>();
     private List<T> equalExamples = new ArrayList<>();
     private List<T> unequalExamples = new ArrayList<>();
+    private ResultCache resultCache = null;
+    private boolean collectMetrics = false;
+    private List<EqualsVerifierListener> listeners = new ArrayList<>();
+    private boolean parallelFieldChecks = false;
     private final Objenesis objenesis;
 
     /**
@@ -69,21 +78,26 @@ public class SingleTypeEqualsVerifierApi<T> implements EqualsVerifierApi<T> {
      * @param type               The class for which the {@code equals} method should be tested.
      * @param warningsToSuppress A list of warnings to suppress in {@code EqualsVerifier}.
      * @param factoryCache       Factories that can be used to create values.
+     * @param tupleCache         Values that were already created from {@code factoryCache}, and that can be shared
+     *                               with other verifications that use the same factories; may be {@code null}.
      * @param objenesis          To instantiate non-record classes.
      * @param usingGetClass      Whether {@code getClass} is used in the implementation of the {@code
      *     equals}            method, instead of an {@code instanceof} check.
      * @param converter          A function that converts from field name to getter name.
      */
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "TupleCache is shared on purpose")
     public SingleTypeEqualsVerifierApi(
             Class<T> type,
             EnumSet<Warning> warningsToSuppress,
             FactoryCache factoryCache,
+            TupleCache tupleCache,
             Objenesis objenesis,
             boolean usingGetClass,
             Function<String, String> converter) {
         this(type, objenesis);
         this.warningsToSuppress = EnumSet.copyOf(warningsToSuppress);
         this.factoryCache = this.factoryCache.merge(factoryCache);
+        this.tupleCache = tupleCache;
         this.usingGetClass = usingGetClass;
         this.fieldnameToGetter = converter;
     }
@@ -113,6 +127,7 @@ public class SingleTypeEqualsVerifierApi<T> implements EqualsVerifierApi<T> {
     @CheckReturnValue
     public <S> SingleTypeEqualsVerifierApi<T> withPrefabValues(Class<S> otherType, S red, S blue) {
         PrefabValuesApi.addPrefabValues(factoryCache, objenesis, otherType, red, blue);
+        tupleCache = null;
         return this;
     }
 
@@ -140,6 +155,7 @@ public class SingleTypeEqualsVerifierApi<T> implements EqualsVerifierApi<T> {
     @CheckReturnValue
     public <S> SingleTypeEqualsVerifierApi<T> withGenericPrefabValues(Class<S> otherType, Func1<?, S> factory) {
         PrefabValuesApi.addGenericPrefabValues(factoryCache, otherType, factory);
+        tupleCache = null;
         return this;
     }
 
@@ -148,6 +164,7 @@ public class SingleTypeEqualsVerifierApi<T> implements EqualsVerifierApi<T> {
     @CheckReturnValue
     public <S> SingleTypeEqualsVerifierApi<T> withGenericPrefabValues(Class<S> otherType, Func2<?, ?, S> factory) {
         PrefabValuesApi.addGenericPrefabValues(factoryCache, otherType, factory);
+        tupleCache = null;
         return this;
     }
 
@@ -331,6 +348,83 @@ public class SingleTypeEqualsVerifierApi<T> implements EqualsVerifierApi<T> {
         return this;
     }
 
+    /**
+     * Skips the verification if the class, and the configuration of this verification, haven't changed since the
+     * last time it was verified successfully.
+     *
+     * <p>
+     * EqualsVerifier remembers successful verifications by a fingerprint of the bytecode of the class, its
+     * superclasses, their enclosing classes and packages and the types of their fields, the configuration, and the
+     * versions of EqualsVerifier and the JDK. These fingerprints are stored in the given directory, so they survive
+     * between test runs, and in memory, for repeated verifications within the same JVM. Failing verifications are not
+     * cached.
+     *
+     * <p>
+     * Verifications that use {@link #withCachedHashCode(String, String, Object)},
+     * {@link #withLombokCachedHashCode(Object)}, {@link #withFieldnameToGetterConverter(Function)} or relaxed equality
+     * examples can't be fingerprinted reliably, so they're always performed. The same goes for verifications where
+     * EqualsVerifier's version is unknown, because it isn't loaded from its jar. Note that prefab values are
+     * fingerprinted by their types only.
+     *
+     * @param directory The directory in which to store the fingerprints.
+     * @return {@code this}, for easy method chaining.
+     */
+    @CheckReturnValue
+    public SingleTypeEqualsVerifierApi<T> withResultCache(Path directory) {
+        this.resultCache = ResultCache.of(directory);
+        return this;
+    }
+
+    /**
+     * Collects timings and counters while verifying, and adds them to the {@link EqualsVerifierReport} that is
+     * returned by {@link #report()}.
+     *
+     * <p>
+     * The metrics include the time each checker took, and the number of instances, field values, dynamic subclasses
+     * and reflective field writes that EqualsVerifier needed. See {@link EqualsVerifierMetrics}.
+     *
+     * @return {@code this}, for easy method chaining.
+     */
+    @CheckReturnValue
+    public SingleTypeEqualsVerifierApi<T> withMetrics() {
+        this.collectMetrics = true;
+        return this;
+    }
+
+    /**
+     * Registers a listener that is notified while verifying: when the verification and each of its checkers start
+     * and finish, when a field is checked, when values are generated, and when the verification fails.
+     *
+     * <p>
+     * Can be called more than once to register several listeners; they are notified in the order in which they were
+     * registered.
+     *
+     * @param listener The listener to notify.
+     * @return {@code this}, for easy method chaining.
+     */
+    @CheckReturnValue
+    public SingleTypeEqualsVerifierApi<T> withListener(EqualsVerifierListener listener) {
+        Validations.validateNotNull(listener, "listener is null.");
+        this.listeners.add(listener);
+        return this;
+    }
+
+    /**
+     * Checks several fields at the same time, on the common fork-join pool.
+     *
+     * <p>
+     * This speeds up the verification of classes with many fields. Because the same checks are applied to the same
+     * fields, a class that fails gets the same error message as it would without this option. Only the checks on
+     * individual fields are run in parallel; EqualsVerifier's other checks still run one after another.
+     *
+     * @return {@code this}, for easy method chaining.
+     */
+    @CheckReturnValue
+    public SingleTypeEqualsVerifierApi<T> withParallelFieldChecks() {
+        this.parallelFieldChecks = true;
+        return this;
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -350,15 +444,21 @@ public class SingleTypeEqualsVerifierApi<T> implements EqualsVerifierApi<T> {
      * @throws AssertionError If the contract is not met, or if {@link EqualsVerifier}'s preconditions do not hold.
      */
     public void verify() {
-        try {
-            performVerification();
+        MetricsRecorder recorder = MetricsRecorder.start(type, false, listeners);
+        try (MetricsRecorder.Binding binding = recorder.bind()) {
+            performVerification(recorder, null);
         }
         catch (MessagingException e) {
-            throw new AssertionError(buildErrorMessage(e.getDescription(), true), e);
+            String message = buildErrorMessage(e.getDescription(), true);
+            recorder.failed(message, e);
+            throw new AssertionError(message, e);
         }
         catch (Throwable e) {
-            throw new AssertionError(buildErrorMessage(e.getMessage(), true), e);
+            String message = buildErrorMessage(e.getMessage(), true);
+            recorder.failed(message, e);
+            throw new AssertionError(message, e);
         }
+        recorder.succeeded();
     }
 
     /**
@@ -381,16 +481,62 @@ public class SingleTypeEqualsVerifierApi<T> implements EqualsVerifierApi<T> {
      *             {@link EqualsVerifier}'s preconditions hold.
      */
     public EqualsVerifierReport report(boolean showUrl) {
-        try {
-            performVerification();
-            return EqualsVerifierReport.success(type);
-        }
-        catch (MessagingException e) {
-            return EqualsVerifierReport.failure(type, buildErrorMessage(e.getDescription(), showUrl), e);
+        return report(showUrl, ReportMode.FIRST_FAILURE);
+    }
+
+    /**
+     * Performs the verification of the contracts for {@code equals} and {@code hashCode} and returns an
+     * {@link EqualsVerifierReport} with the results of the verification.
+     *
+     * <p>
+     * With {@link ReportMode#ALL_FAILURES}, the verification continues after a problem is found, and the report
+     * contains all of them. See {@link EqualsVerifierReport#getViolations()}.
+     *
+     * @param mode Whether to stop at the first problem, or to look for all of them.
+     * @return An {@link EqualsVerifierReport} that indicates whether the contract is met and whether
+     *             {@link EqualsVerifier}'s preconditions hold.
+     */
+    public EqualsVerifierReport report(ReportMode mode) {
+        return report(true, mode);
+    }
+
+    private EqualsVerifierReport report(boolean showUrl, ReportMode mode) {
+        ViolationCollector collector = mode == ReportMode.ALL_FAILURES ? new ViolationCollector() : null;
+        MetricsRecorder recorder = MetricsRecorder.start(type, collectMetrics, listeners);
+        List<EqualsVerifierReport.Violation> violations;
+        try (MetricsRecorder.Binding binding = recorder.bind()) {
+            performVerification(recorder, collector);
+            violations = collector == null ? new ArrayList<>() : collector.getViolations();
         }
         catch (Throwable e) {
-            return EqualsVerifierReport.failure(type, buildErrorMessage(e.getMessage(), showUrl), e);
+            violations = collector == null ? new ArrayList<>() : collector.getViolations();
+            violations.add(new EqualsVerifierReport.Violation(null, null, ViolationCollector.describe(e), e));
         }
+
+        if (violations.isEmpty()) {
+            recorder.succeeded();
+            return EqualsVerifierReport.success(type, recorder.finish());
+        }
+        String message = buildErrorMessage(violations, showUrl);
+        Throwable cause = violations.get(0).getCause();
+        recorder.failed(message, cause);
+        return EqualsVerifierReport.failure(type, message, cause, recorder.finish(), violations);
+    }
+
+    private String buildErrorMessage(List<EqualsVerifierReport.Violation> violations, boolean showUrl) {
+        if (violations.size() == 1) {
+            return buildErrorMessage(violations.get(0).getMessage(), showUrl);
+        }
+        StringBuilder result = new StringBuilder(
+                Formatter.of("EqualsVerifier found %% problems in class %%.", violations.size(), type.getName()).format());
+        for (EqualsVerifierReport.Violation violation : violations) {
+            String description = violation.getMessage() == null ? "<no message>" : violation.getMessage();
+            result.append("\n-> ").append(description);
+        }
+        if (showUrl) {
+            result.append("\n\n").append(ErrorMessage.suffix());
+        }
+        return result.toString();
     }
 
     private String buildErrorMessage(String description, boolean showUrl) {
@@ -403,14 +549,23 @@ public class SingleTypeEqualsVerifierApi<T> implements EqualsVerifierApi<T> {
         return result;
     }
 
-    private void performVerification() {
+    private void performVerification(MetricsRecorder recorder, ViolationCollector collector) {
         if (type.isEnum() || type.isInterface()) {
             return;
         }
         Validations.validateClassCanBeVerified(type);
+        FlightRecorderHelper.verification(type, () -> performVerificationUnlessCached(recorder, collector));
+    }
+
+    private void performVerificationUnlessCached(MetricsRecorder recorder, ViolationCollector collector) {
+        String fingerprint = resultCache == null ? null : fingerprint();
+        if (fingerprint != null && resultCache.contains(fingerprint)) {
+            return;
+        }
 
         Configuration<T> config = buildConfig();
-        Context<T> context = new Context<>(config, factoryCache, fieldCache, objenesis);
+        Context<T> context =
+                new Context<>(config, factoryCache, tupleCache, fieldCache, objenesis, parallelFieldChecks, collector);
         Validations
                 .validateProcessedAnnotations(
                     type,
@@ -419,8 +574,39 @@ public class SingleTypeEqualsVerifierApi<T> implements EqualsVerifierApi<T> {
                     allIncludedFields,
                     allExcludedFields);
 
-        verifyWithoutExamples(context);
-        verifyWithExamples(context);
+        verifyWithoutExamples(context, recorder);
+        verifyWithExamples(context, recorder);
+
+        if (fingerprint != null && (collector == null || collector.isEmpty())) {
+            resultCache.remember(fingerprint, type);
+        }
+    }
+
+    private String fingerprint() {
+        boolean canBeFingerprinted = equalExamples.isEmpty()
+                && unequalExamples.isEmpty()
+                && fieldnameToGetter == null
+                && cachedHashCodeInitializer.isPassthrough();
+        if (!canBeFingerprinted) {
+            return null;
+        }
+        return ResultCache
+                .fingerprint()
+                .includingKnown("equalsverifier", ResultCache.EQUALSVERIFIER_VERSION)
+                .includingHierarchy(type)
+                .includingHierarchy(redefinedSubclass)
+                .including("type", type.getName())
+                .including("redefinedSubclass", redefinedSubclass == null ? null : redefinedSubclass.getName())
+                .including("warningsToSuppress", warningsToSuppress)
+                .including("usingGetClass", usingGetClass)
+                .including("hasRedefinedSuperclass", hasRedefinedSuperclass)
+                .including("excludedFields", new TreeSet<>(allExcludedFields))
+                .including("includedFields", new TreeSet<>(allIncludedFields))
+                .including("nonnullFields", new TreeSet<>(nonnullFields))
+                .including("ignoredAnnotations", new TreeSet<>(ignoredAnnotationClassNames))
+                .including("prefabTypes", factoryCache.getTypeNames())
+                .including("prefabFields", new TreeSet<>(fieldCache.getFieldNames()))
+                .compute();
     }
 
     private Configuration<T> buildConfig() {
@@ -443,22 +629,29 @@ public class SingleTypeEqualsVerifierApi<T> implements EqualsVerifierApi<T> {
                     unequalExamples);
     }
 
-    private void verifyWithoutExamples(Context<T> context) {
+    private void verifyWithoutExamples(Context<T> context, MetricsRecorder recorder) {
         Configuration<T> config = context.getConfiguration();
         Checker[] checkers = { new SignatureChecker<>(context), new AbstractDelegationChecker<>(context),
                 new NullChecker<>(context), new RecordChecker<>(context), new CachedHashCodeChecker<>(config) };
 
         for (Checker checker : checkers) {
-            checker.check();
+            check(context, recorder, checker);
         }
     }
 
-    private void verifyWithExamples(Context<T> context) {
+    private void verifyWithExamples(Context<T> context, MetricsRecorder recorder) {
         Checker[] checkers = { new ExamplesChecker<>(context), new HierarchyChecker<>(context),
                 new FieldsChecker<>(context), new MapEntryHashCodeRequirementChecker<>(context) };
 
         for (Checker checker : checkers) {
-            checker.check();
+            check(context, recorder, checker);
         }
     }
+
+    private void check(Context<T> context, MetricsRecorder recorder, Checker checker) {
+        String name = checker.getClass().getSimpleName();
+        Runnable check = () -> FlightRecorderHelper.checker(type, name, checker::check);
+        ViolationCollector collector = context.getViolationCollector();
+        recorder.checker(name, collector == null ? check : () -> collector.collect(name, null, check));
+    }
 }
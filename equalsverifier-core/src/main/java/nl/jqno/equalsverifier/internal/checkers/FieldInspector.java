@@ -3,18 +3,63 @@ package nl.jqno.equalsverifier.internal.checkers;
 import nl.jqno.equalsverifier.internal.checkers.fieldchecks.FieldCheck;
 import nl.jqno.equalsverifier.internal.reflection.FieldIterable;
 import nl.jqno.equalsverifier.internal.reflection.FieldProbe;
+import nl.jqno.equalsverifier.internal.util.Context;
+import nl.jqno.equalsverifier.internal.util.MetricsRecorder;
+import nl.jqno.equalsverifier.internal.util.ViolationCollector;
+import nl.jqno.equalsverifier.internal.versionspecific.FlightRecorderHelper;
 
 public class FieldInspector<T> {
 
     private final Class<T> type;
+    private final String owner;
+    private final ViolationCollector violationCollector;
 
-    public FieldInspector(Class<T> type) {
-        this.type = type;
+    public FieldInspector(Context<T> context, String owner) {
+        this.type = context.getType();
+        this.owner = owner;
+        this.violationCollector = context.getViolationCollector();
     }
 
     public void check(FieldCheck<T> check) {
-        for (FieldProbe fieldProbe : FieldIterable.of(type)) {
+        String checkName = check.getClass().getSimpleName();
+        MetricsRecorder recorder = MetricsRecorder.current();
+        if (recorder.isEnabled()) {
+            recorder.time(owner + "." + checkName, () -> checkAllFields(check, checkName));
+        }
+        else {
+            checkAllFields(check, checkName);
+        }
+    }
+
+    /* package protected */ void check(FieldCheck<T> check, String checkName, FieldProbe fieldProbe) {
+        MetricsRecorder recorder = MetricsRecorder.current();
+        if (!recorder.isEnabled() && violationCollector == null && !FlightRecorderHelper.isFieldCheckEnabled()) {
             check.execute(fieldProbe);
+            return;
+        }
+        String fieldName = fieldProbe.getName();
+        long start = recorder.fieldCheckStarted(checkName, fieldName);
+        try {
+            if (violationCollector == null) {
+                FlightRecorderHelper.fieldCheck(type, checkName, fieldName, () -> check.execute(fieldProbe));
+            }
+            else {
+                violationCollector
+                        .collect(
+                            checkName,
+                            fieldName,
+                            () -> FlightRecorderHelper
+                                    .fieldCheck(type, checkName, fieldName, () -> check.execute(fieldProbe)));
+            }
+        }
+        finally {
+            recorder.fieldCheckFinished(checkName, fieldName, start);
+        }
+    }
+
+    private void checkAllFields(FieldCheck<T> check, String checkName) {
+        for (FieldProbe fieldProbe : FieldIterable.of(type)) {
+            check(check, checkName, fieldProbe);
         }
     }
 }
@@ -1,11 +1,16 @@
 package nl.jqno.equalsverifier.internal.checkers;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Predicate;
 
 import nl.jqno.equalsverifier.Warning;
 import nl.jqno.equalsverifier.internal.checkers.fieldchecks.*;
 import nl.jqno.equalsverifier.internal.instantiation.SubjectCreator;
+import nl.jqno.equalsverifier.internal.reflection.FieldIterable;
 import nl.jqno.equalsverifier.internal.reflection.FieldProbe;
+import nl.jqno.equalsverifier.internal.reflection.FieldReads;
 import nl.jqno.equalsverifier.internal.reflection.TypeTag;
 import nl.jqno.equalsverifier.internal.reflection.annotations.AnnotationCache;
 import nl.jqno.equalsverifier.internal.reflection.annotations.SupportedAnnotations;
@@ -27,6 +32,7 @@ public class FieldsChecker<T> implements Checker {
     private final StringFieldCheck<T> stringFieldCheck;
     private final BigDecimalFieldCheck<T> bigDecimalFieldCheck;
     private final JpaLazyGetterFieldCheck<T> jpaLazyGetterFieldCheck;
+    private Boolean equalToCopy;
 
     public FieldsChecker(Context<T> context) {
         this.context = context;
@@ -37,15 +43,16 @@ public class FieldsChecker<T> implements Checker {
 
         final String cachedHashCodeFieldName = config.getCachedHashCodeInitializer().getCachedHashCodeFieldName();
         final Predicate<FieldProbe> isCachedHashCodeField = p -> p.getName().equals(cachedHashCodeFieldName);
+        final Predicate<FieldProbe> isIgnoredByEquals = isIgnoredByEquals();
 
         this.arrayFieldCheck = new ArrayFieldCheck<>(subjectCreator, config.getCachedHashCodeInitializer());
         this.floatAndDoubleFieldCheck = new FloatAndDoubleFieldCheck<>(subjectCreator);
         this.mutableStateFieldCheck = new MutableStateFieldCheck<>(subjectCreator, isCachedHashCodeField);
         this.reflexivityFieldCheck = new ReflexivityFieldCheck<>(context);
         this.significantFieldCheck = new SignificantFieldCheck<>(context, isCachedHashCodeField);
-        this.symmetryFieldCheck = new SymmetryFieldCheck<>(subjectCreator);
+        this.symmetryFieldCheck = new SymmetryFieldCheck<>(subjectCreator, isIgnoredByEquals);
         this.transientFieldsCheck = new TransientFieldsCheck<>(subjectCreator, typeTag, config.getAnnotationCache());
-        this.transitivityFieldCheck = new TransitivityFieldCheck<>(subjectCreator);
+        this.transitivityFieldCheck = new TransitivityFieldCheck<>(subjectCreator, isIgnoredByEquals);
         this.stringFieldCheck = new StringFieldCheck<>(subjectCreator,
                 context.getValueProvider(),
                 config.getCachedHashCodeInitializer());
@@ -55,36 +62,86 @@ public class FieldsChecker<T> implements Checker {
 
     @Override
     public void check() {
-        FieldInspector<T> inspector = new FieldInspector<>(context.getType());
+        if (context.isParallelFieldChecks()) {
+            new ParallelFieldInspector<>(context, "FieldsChecker", ForkJoinPool.commonPool())
+                    .check(c -> new FieldsChecker<>(c).applicableChecks());
+            return;
+        }
+
+        FieldInspector<T> inspector = new FieldInspector<>(context, "FieldsChecker");
+        for (FieldCheck<T> check : applicableChecks()) {
+            inspector.check(check);
+        }
+    }
+
+    private List<FieldCheck<T>> applicableChecks() {
+        List<FieldCheck<T>> result = new ArrayList<>();
 
         if (!context.getClassProbe().isEqualsInheritedFromObject()) {
-            inspector.check(arrayFieldCheck);
-            inspector.check(floatAndDoubleFieldCheck);
-            inspector.check(reflexivityFieldCheck);
+            result.add(arrayFieldCheck);
+            result.add(floatAndDoubleFieldCheck);
+            result.add(reflexivityFieldCheck);
         }
 
         if (!ignoreMutability(context.getType())) {
-            inspector.check(mutableStateFieldCheck);
+            result.add(mutableStateFieldCheck);
         }
 
         if (!config.getWarningsToSuppress().contains(Warning.TRANSIENT_FIELDS)) {
-            inspector.check(transientFieldsCheck);
+            result.add(transientFieldsCheck);
         }
 
-        inspector.check(significantFieldCheck);
-        inspector.check(symmetryFieldCheck);
-        inspector.check(transitivityFieldCheck);
-        inspector.check(stringFieldCheck);
+        result.add(significantFieldCheck);
+        result.add(symmetryFieldCheck);
+        result.add(transitivityFieldCheck);
+        result.add(stringFieldCheck);
 
         if (!config.getWarningsToSuppress().contains(Warning.BIGDECIMAL_EQUALITY)) {
-            inspector.check(bigDecimalFieldCheck);
+            result.add(bigDecimalFieldCheck);
         }
 
         AnnotationCache cache = config.getAnnotationCache();
         if (cache.hasClassAnnotation(config.getType(), SupportedAnnotations.ENTITY)
                 && !config.getWarningsToSuppress().contains(Warning.JPA_GETTER)) {
-            inspector.check(jpaLazyGetterFieldCheck);
+            result.add(jpaLazyGetterFieldCheck);
+        }
+
+        return result;
+    }
+
+    /**
+     * Fields that equals and hashCode provably don't read can't make a difference to symmetry and transitivity, as long
+     * as an object is equal to a copy of itself: those properties are then already covered by the fields that are read.
+     * If the bytecode analysis is inconclusive, every field is checked.
+     */
+    private Predicate<FieldProbe> isIgnoredByEquals() {
+        FieldReads reads = FieldReads.of(context.getType());
+        if (!reads.isConclusive() || !anyFieldIsRead(reads)) {
+            return p -> false;
+        }
+        return p -> !reads.mayRead(p.getName()) && isEqualToCopy();
+    }
+
+    private boolean anyFieldIsRead(FieldReads reads) {
+        for (FieldProbe p : FieldIterable.of(context.getType())) {
+            if (!p.isStatic() && reads.mayRead(p.getName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isEqualToCopy() {
+        if (equalToCopy == null) {
+            SubjectCreator<T> subjectCreator = context.getSubjectCreator();
+            try {
+                equalToCopy = subjectCreator.plain().equals(subjectCreator.plain());
+            }
+            catch (RuntimeException e) {
+                equalToCopy = false;
+            }
         }
+        return equalToCopy;
     }
 
     private boolean ignoreMutability(Class<?> type) {
@@ -1,5 +1,8 @@
 package nl.jqno.equalsverifier.internal.checkers;
 
+import java.util.Collections;
+import java.util.concurrent.ForkJoinPool;
+
 import nl.jqno.equalsverifier.Warning;
 import nl.jqno.equalsverifier.internal.checkers.fieldchecks.NullPointerExceptionFieldCheck;
 import nl.jqno.equalsverifier.internal.util.Context;
@@ -18,7 +21,13 @@ public class NullChecker<T> implements Checker {
             return;
         }
 
-        FieldInspector<T> inspector = new FieldInspector<>(context.getType());
+        if (context.isParallelFieldChecks()) {
+            new ParallelFieldInspector<>(context, "NullChecker", ForkJoinPool.commonPool())
+                    .check(c -> Collections.singletonList(new NullPointerExceptionFieldCheck<>(c)));
+            return;
+        }
+
+        FieldInspector<T> inspector = new FieldInspector<>(context, "NullChecker");
         inspector.check(new NullPointerExceptionFieldCheck<>(context));
     }
 }
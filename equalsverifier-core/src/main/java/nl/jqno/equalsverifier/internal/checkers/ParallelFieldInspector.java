@@ -0,0 +1,150 @@
+package nl.jqno.equalsverifier.internal.checkers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import nl.jqno.equalsverifier.internal.SuppressFBWarnings;
+import nl.jqno.equalsverifier.internal.checkers.fieldchecks.FieldCheck;
+import nl.jqno.equalsverifier.internal.reflection.FieldIterable;
+import nl.jqno.equalsverifier.internal.reflection.FieldProbe;
+import nl.jqno.equalsverifier.internal.util.Context;
+import nl.jqno.equalsverifier.internal.util.MetricsRecorder;
+
+/**
+ * Applies a number of {@link FieldCheck}s to the fields of a class, checking several fields at the same time.
+ *
+ * <p>
+ * The fields are divided over a number of tasks on a {@link ForkJoinPool}. {@code SubjectCreator} and
+ * {@code ValueProvider} aren't thread-safe, so each task works with its own fork of the {@link Context}, and
+ * creates its own instances of the checks from that.
+ *
+ * <p>
+ * A sequential {@link FieldInspector} applies each check to all fields before it moves on to the next check, so it
+ * fails on the first field of the first check that fails. To report that same failure, each task applies the checks
+ * to a field in order and stops at the first one that fails. Of all failures, the one with the earliest check, and
+ * then the earliest field, is rethrown.
+ *
+ * <p>
+ * When all problems are collected, instead of only the first, the fields are checked sequentially, so that the
+ * problems are reported in the same order as usual.
+ */
+public class ParallelFieldInspector<T> {
+
+    private final Context<T> context;
+    private final String owner;
+    private final ForkJoinPool pool;
+
+    public ParallelFieldInspector(Context<T> context, String owner, ForkJoinPool pool) {
+        this.context = context;
+        this.owner = owner;
+        this.pool = pool;
+    }
+
+    @SuppressFBWarnings(value = "BC_UNCONFIRMED_CAST", justification = "Only RuntimeExceptions and Errors are caught")
+    public void check(Function<Context<T>, List<FieldCheck<T>>> checksFactory) {
+        List<FieldProbe> fields = new ArrayList<>();
+        FieldIterable.of(context.getType()).forEach(fields::add);
+
+        int taskCount = Math.min(pool.getParallelism(), fields.size());
+        if (taskCount <= 1 || context.getViolationCollector() != null) {
+            FieldInspector<T> inspector = new FieldInspector<>(context, owner);
+            for (FieldCheck<T> check : checksFactory.apply(context)) {
+                inspector.check(check);
+            }
+            return;
+        }
+
+        MetricsRecorder recorder = MetricsRecorder.current();
+        AtomicReference<Failure> firstFailure = new AtomicReference<>();
+        List<ForkJoinTask<?>> tasks = new ArrayList<>();
+        for (int i = 0; i < taskCount; i++) {
+            int offset = i;
+            Context<T> fork = context.fork();
+            tasks.add(pool.submit(() -> {
+                try (MetricsRecorder.Binding binding = recorder.bind()) {
+                    checkFields(fork, checksFactory.apply(fork), offset, taskCount, firstFailure);
+                }
+            }));
+        }
+        for (ForkJoinTask<?> task : tasks) {
+            task.join();
+        }
+
+        Failure failure = firstFailure.get();
+        if (failure == null) {
+            return;
+        }
+        if (failure.cause instanceof Error) {
+            throw (Error) failure.cause;
+        }
+        throw (RuntimeException) failure.cause;
+    }
+
+    private void checkFields(
+            Context<T> fork,
+            List<FieldCheck<T>> checks,
+            int offset,
+            int stride,
+            AtomicReference<Failure> firstFailure) {
+        FieldInspector<T> inspector = new FieldInspector<>(fork, owner);
+        MetricsRecorder recorder = MetricsRecorder.current();
+        int fieldIndex = 0;
+        for (FieldProbe fieldProbe : FieldIterable.of(fork.getType())) {
+            if (fieldIndex % stride == offset) {
+                checkField(inspector, recorder, checks, fieldProbe, fieldIndex, firstFailure);
+            }
+            fieldIndex += 1;
+        }
+    }
+
+    private void checkField(
+            FieldInspector<T> inspector,
+            MetricsRecorder recorder,
+            List<FieldCheck<T>> checks,
+            FieldProbe fieldProbe,
+            int fieldIndex,
+            AtomicReference<Failure> firstFailure) {
+        for (int checkIndex = 0; checkIndex < checks.size(); checkIndex++) {
+            Failure failure = firstFailure.get();
+            if (failure != null && !failure.isAfter(checkIndex, fieldIndex)) {
+                return;
+            }
+
+            FieldCheck<T> check = checks.get(checkIndex);
+            String checkName = check.getClass().getSimpleName();
+            try {
+                recorder.time(owner + "." + checkName, () -> inspector.check(check, checkName, fieldProbe));
+            }
+            catch (RuntimeException | Error e) {
+                Failure candidate = new Failure(checkIndex, fieldIndex, e);
+                firstFailure.accumulateAndGet(candidate, (a, b) -> a == null || a.isAfter(b) ? b : a);
+                return;
+            }
+        }
+    }
+
+    private static final class Failure {
+
+        private final int checkIndex;
+        private final int fieldIndex;
+        private final Throwable cause;
+
+        private Failure(int checkIndex, int fieldIndex, Throwable cause) {
+            this.checkIndex = checkIndex;
+            this.fieldIndex = fieldIndex;
+            this.cause = cause;
+        }
+
+        private boolean isAfter(Failure other) {
+            return isAfter(other.checkIndex, other.fieldIndex);
+        }
+
+        private boolean isAfter(int otherCheckIndex, int otherFieldIndex) {
+            return checkIndex > otherCheckIndex || (checkIndex == otherCheckIndex && fieldIndex > otherFieldIndex);
+        }
+    }
+}
@@ -1,13 +1,17 @@
 package nl.jqno.equalsverifier.internal.checkers.fieldchecks;
 
-import static net.bytebuddy.implementation.ExceptionMethod.throwing;
-import static net.bytebuddy.matcher.ElementMatchers.named;
+import static net.bytebuddy.matcher.ElementMatchers.namedOneOf;
 import static nl.jqno.equalsverifier.internal.util.Assert.assertTrue;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
+import java.util.SortedSet;
+import java.util.TreeSet;
 import java.util.function.Function;
 
+import net.bytebuddy.asm.Advice;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.implementation.SuperMethodCall;
 import nl.jqno.equalsverifier.Warning;
 import nl.jqno.equalsverifier.internal.exceptions.EqualsVerifierInternalBugException;
 import nl.jqno.equalsverifier.internal.instantiation.SubjectCreator;
@@ -18,9 +22,12 @@ import nl.jqno.equalsverifier.internal.reflection.annotations.SupportedAnnotatio
 import nl.jqno.equalsverifier.internal.util.Configuration;
 import nl.jqno.equalsverifier.internal.util.Context;
 import nl.jqno.equalsverifier.internal.util.Formatter;
+import nl.jqno.equalsverifier.internal.util.Rethrow;
 
 public class JpaLazyGetterFieldCheck<T> implements FieldCheck<T> {
 
+    private static final String SELECTOR_FIELD = "equalsverifier$throwingGetter";
+
     private final SubjectCreator<T> subjectCreator;
     private final ValueProvider valueProvider;
     private final Class<T> type;
@@ -29,6 +36,10 @@ public class JpaLazyGetterFieldCheck<T> implements FieldCheck<T> {
     private final Function<String, String> fieldnameToGetter;
     private final boolean strictHashcode;
 
+    private Class<T> throwingGetterSubclass;
+    private FieldMutator throwingGetterSelector;
+    private Tuple<T> throwingGetterTuple;
+
     public JpaLazyGetterFieldCheck(Context<T> context) {
         this.subjectCreator = context.getSubjectCreator();
         this.valueProvider = context.getValueProvider();
@@ -61,10 +72,8 @@ public class JpaLazyGetterFieldCheck<T> implements FieldCheck<T> {
                         fieldName),
             classProbe.hasMethod(getterName));
 
-        TypeTag sub = new TypeTag(throwingGetterCreator(getterName));
-        Tuple<T> tuple = valueProvider.<T>provideOrThrow(sub);
-        T red1 = tuple.getRed();
-        T red2 = tuple.getRedCopy();
+        T red1 = throwingIn(throwingGetterTuple().getRed(), getterName);
+        T red2 = throwingIn(throwingGetterTuple().getRedCopy(), getterName);
 
         boolean equalsExceptionCaught = false;
         try {
@@ -87,7 +96,7 @@ public class JpaLazyGetterFieldCheck<T> implements FieldCheck<T> {
     }
 
     private boolean fieldIsUsed(Field field, boolean forEquals) {
-        T red = subjectCreator.plain();
+        T red = subjectCreator.sharedPlain();
         T blue = subjectCreator.withFieldChanged(field);
 
         if (forEquals) {
@@ -103,14 +112,41 @@ public class JpaLazyGetterFieldCheck<T> implements FieldCheck<T> {
                 || annotationCache.hasFieldAnnotation(type, fieldName, SupportedAnnotations.JPA_LAZY_FIELD);
     }
 
-    private Class<T> throwingGetterCreator(String getterName) {
-        return Instantiator
-                .giveDynamicSubclass(
-                    type,
-                    getterName,
-                    builder -> builder
-                            .method(named(getterName))
-                            .intercept(throwing(EqualsVerifierInternalBugException.class)));
+    /**
+     * Returns a copy of {@code instance} whose getter {@code getterName} throws. The instances from the tuple are
+     * shared, so they're never switched themselves.
+     */
+    private T throwingIn(T instance, String getterName) {
+        T result = subjectCreator.copyIntoSubclass(instance, throwingGetterSubclass);
+        throwingGetterSelector.setNewValue(result, getterName);
+        return result;
+    }
+
+    /**
+     * Generates a single subclass for all lazy fields, and a single tuple of it that is reused for each of them.
+     */
+    private Tuple<T> throwingGetterTuple() {
+        if (throwingGetterTuple == null) {
+            SortedSet<String> getterNames = new TreeSet<>();
+            for (FieldProbe p : FieldIterable.of(type)) {
+                String getterName = fieldnameToGetter.apply(p.getName());
+                if (fieldIsLazy(p.getName()) && classProbe.hasMethod(getterName)) {
+                    getterNames.add(getterName);
+                }
+            }
+            throwingGetterSubclass = Instantiator
+                    .giveDynamicSubclass(
+                        type,
+                        "lazyGetters$" + String.join("$", getterNames),
+                        builder -> builder
+                                .defineField(SELECTOR_FIELD, String.class, Visibility.PRIVATE)
+                                .method(namedOneOf(getterNames.toArray(new String[0])))
+                                .intercept(Advice.to(ThrowingGetter.class).wrap(SuperMethodCall.INSTANCE)));
+            throwingGetterSelector = new FieldMutator(
+                FieldProbe.of(Rethrow.rethrow(() -> throwingGetterSubclass.getDeclaredField(SELECTOR_FIELD))));
+            throwingGetterTuple = valueProvider.<T>provideOrThrow(new TypeTag(throwingGetterSubclass));
+        }
+        return throwingGetterTuple;
     }
 
     private void assertEntity(String fieldName, String method, String getterName, boolean assertion) {
@@ -123,4 +159,20 @@ public class JpaLazyGetterFieldCheck<T> implements FieldCheck<T> {
                         getterName),
             assertion);
     }
+
+    /**
+     * Inlined into every lazy getter of the generated subclass: throws if the instance's selector field names the
+     * getter, and otherwise lets it call the entity's own getter.
+     */
+    static final class ThrowingGetter {
+
+        private ThrowingGetter() {}
+
+        @Advice.OnMethodEnter
+        static void enter(@Advice.FieldValue(SELECTOR_FIELD) String selector, @Advice.Origin("#m") String getterName) {
+            if (getterName.equals(selector)) {
+                throw new EqualsVerifierInternalBugException();
+            }
+        }
+    }
 }
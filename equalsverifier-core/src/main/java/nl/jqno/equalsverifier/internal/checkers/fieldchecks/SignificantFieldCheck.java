@@ -43,14 +43,14 @@ public class SignificantFieldCheck<T> implements FieldCheck<T> {
         }
 
         checkValues(
-            subjectCreator.plain(),
+            subjectCreator.sharedPlain(),
             subjectCreator.plain(),
             subjectCreator.withFieldChanged(fieldProbe.getField()),
             fieldProbe,
             false);
         if (fieldProbe.canBeDefault(config)) {
             checkValues(
-                subjectCreator.withAllFieldsDefaulted(),
+                subjectCreator.sharedWithAllFieldsDefaulted(),
                 subjectCreator.withAllFieldsDefaulted(),
                 subjectCreator.withAllFieldsDefaultedExcept(fieldProbe.getField()),
                 fieldProbe,
@@ -2,6 +2,8 @@ package nl.jqno.equalsverifier.internal.checkers.fieldchecks;
 
 import static nl.jqno.equalsverifier.internal.util.Assert.assertTrue;
 
+import java.util.function.Predicate;
+
 import nl.jqno.equalsverifier.internal.SuppressFBWarnings;
 import nl.jqno.equalsverifier.internal.instantiation.SubjectCreator;
 import nl.jqno.equalsverifier.internal.reflection.FieldProbe;
@@ -10,14 +12,20 @@ import nl.jqno.equalsverifier.internal.util.Formatter;
 public class SymmetryFieldCheck<T> implements FieldCheck<T> {
 
     private final SubjectCreator<T> subjectCreator;
+    private final Predicate<FieldProbe> isIgnoredByEquals;
 
     @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "PrefabValues is inherently mutable.")
-    public SymmetryFieldCheck(SubjectCreator<T> subjectCreator) {
+    public SymmetryFieldCheck(SubjectCreator<T> subjectCreator, Predicate<FieldProbe> isIgnoredByEquals) {
         this.subjectCreator = subjectCreator;
+        this.isIgnoredByEquals = isIgnoredByEquals;
     }
 
     @Override
     public void execute(FieldProbe fieldProbe) {
+        if (isIgnoredByEquals.test(fieldProbe)) {
+            return;
+        }
+
         T left = subjectCreator.plain();
         T right = subjectCreator.plain();
         T changedRight = subjectCreator.withFieldChanged(fieldProbe.getField());
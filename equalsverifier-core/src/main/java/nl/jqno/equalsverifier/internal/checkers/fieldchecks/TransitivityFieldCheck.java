@@ -2,6 +2,8 @@ package nl.jqno.equalsverifier.internal.checkers.fieldchecks;
 
 import static nl.jqno.equalsverifier.internal.util.Assert.fail;
 
+import java.util.function.Predicate;
+
 import nl.jqno.equalsverifier.internal.SuppressFBWarnings;
 import nl.jqno.equalsverifier.internal.instantiation.SubjectCreator;
 import nl.jqno.equalsverifier.internal.reflection.FieldProbe;
@@ -10,17 +12,23 @@ import nl.jqno.equalsverifier.internal.util.Formatter;
 public class TransitivityFieldCheck<T> implements FieldCheck<T> {
 
     private final SubjectCreator<T> subjectCreator;
+    private final Predicate<FieldProbe> isIgnoredByEquals;
 
     @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "PrefabValues is inherently mutable.")
-    public TransitivityFieldCheck(SubjectCreator<T> subjectCreator) {
+    public TransitivityFieldCheck(SubjectCreator<T> subjectCreator, Predicate<FieldProbe> isIgnoredByEquals) {
         this.subjectCreator = subjectCreator;
+        this.isIgnoredByEquals = isIgnoredByEquals;
     }
 
     @Override
     public void execute(FieldProbe fieldProbe) {
-        T a1 = subjectCreator.plain();
+        if (isIgnoredByEquals.test(fieldProbe)) {
+            return;
+        }
+
+        T a1 = subjectCreator.sharedPlain();
         T b1 = subjectCreator.withFieldChanged(fieldProbe.getField());
-        T b2 = subjectCreator.withAllFieldsChanged();
+        T b2 = subjectCreator.sharedWithAllFieldsChanged();
 
         boolean x = a1.equals(b1);
         boolean y = b1.equals(b2);
@@ -4,6 +4,10 @@ package nl.jqno.equalsverifier.internal.exceptions;
  * Superclass for exceptions that exist only to send a message to the user when something goes wrong. These exceptions
  * do not need to be included as a cause in the final stack trace. If they have a cause, this cause will serve directly
  * as the cause for the final stack trace, instead of the exception itself.
+ *
+ * <p>
+ * Because they only carry a message, they don't capture a stack trace, which would be expensive and would only point
+ * to EqualsVerifier's internals anyway.
  */
 @SuppressWarnings("serial")
 public abstract class MessagingException extends RuntimeException {
@@ -19,7 +23,7 @@ public abstract class MessagingException extends RuntimeException {
     }
 
     public MessagingException(String description, Throwable cause) {
-        super(null, cause);
+        super(null, cause, false, false);
         this.description = description;
     }
 
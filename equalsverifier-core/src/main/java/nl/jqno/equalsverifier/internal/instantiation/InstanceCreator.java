@@ -16,6 +16,8 @@ public class InstanceCreator<T> {
     private final Class<T> type;
     private final ClassProbe<T> probe;
     private final Instantiator<T> instantiator;
+    private final FieldPopulator<T> populator;
+    private final FieldProbe[] fields;
 
     /**
      * Constructor.
@@ -27,6 +29,19 @@ public class InstanceCreator<T> {
         this.type = probe.getType();
         this.probe = probe;
         this.instantiator = Instantiator.of(type, objenesis);
+        this.populator = FieldPopulator.of(type);
+        this.fields = populator.slots();
+    }
+
+    /**
+     * Returns the fields that an {@code InstanceCreator} for the given type can assign, in the order in which
+     * {@link #instantiate(Object[])} expects their values.
+     *
+     * @param type The type to instantiate.
+     * @return The non-static fields of {@code type} and its superclasses.
+     */
+    public static FieldProbe[] slots(Class<?> type) {
+        return FieldPopulator.of(type).slots();
     }
 
     /**
@@ -38,6 +53,22 @@ public class InstanceCreator<T> {
      * @return An instance with assigned values.
      */
     public T instantiate(Map<Field, Object> values) {
+        Object[] slotValues = new Object[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            slotValues[i] = values.get(fields[i].getField());
+        }
+        return instantiate(slotValues);
+    }
+
+    /**
+     * Creates an instance of the given type, with its field set to the given values. The values must be in the same
+     * order as the fields returned by {@link #slots(Class)}. If a value is null, the field will be set to its default
+     * value: null for object references, 0 for numbers, false for booleans.
+     *
+     * @param values Values to assign to the instance's fields, indexed by slot.
+     * @return An instance with assigned values.
+     */
+    public T instantiate(Object[] values) {
         return probe.isRecord() ? createRecordInstance(values) : createClassInstance(values);
     }
 
@@ -48,38 +79,42 @@ public class InstanceCreator<T> {
      * @return A copy of the given original.
      */
     public T copy(Object original) {
-        Map<Field, Object> values = new HashMap<>();
-        for (FieldProbe p : fields(original.getClass())) {
-            Object value = p.getValue(original);
-            values.put(p.getField(), value);
+        if (type.isInstance(original)) {
+            return instantiate(populator.read(type.cast(original)));
+        }
+
+        Class<?> originalType = original.getClass();
+        Object[] values = new Object[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            FieldProbe p = fields[i];
+            if (p.getField().getDeclaringClass().isAssignableFrom(originalType)) {
+                values[i] = p.getValue(original);
+            }
         }
         return instantiate(values);
     }
 
-    private T createRecordInstance(Map<Field, Object> values) {
+    private T createRecordInstance(Object[] values) {
         List<Object> params = new ArrayList<>();
         traverseFields(values, (p, v) -> params.add(v));
         RecordProbe<T> recordProbe = new RecordProbe<>(type);
         return recordProbe.callRecordConstructor(params);
     }
 
-    private T createClassInstance(Map<Field, Object> values) {
+    private T createClassInstance(Object[] values) {
         T instance = instantiator.instantiate();
-        traverseFields(values, (p, v) -> new FieldMutator(p).setNewValue(instance, v));
+        populator.populate(instance, values);
         return instance;
     }
 
-    private void traverseFields(Map<Field, Object> values, BiConsumer<FieldProbe, Object> setValue) {
-        for (FieldProbe p : fields(type)) {
-            Object value = values.get(p.getField());
+    private void traverseFields(Object[] values, BiConsumer<FieldProbe, Object> setValue) {
+        for (int i = 0; i < fields.length; i++) {
+            FieldProbe p = fields[i];
+            Object value = values[i];
             if (value == null) {
                 value = PrimitiveMappers.DEFAULT_VALUE_MAPPER.get(p.getType());
             }
             setValue.accept(p, value);
         }
     }
-
-    private FieldIterable fields(Class<?> typeWithFields) {
-        return FieldIterable.ofIgnoringStatic(typeWithFields);
-    }
 }
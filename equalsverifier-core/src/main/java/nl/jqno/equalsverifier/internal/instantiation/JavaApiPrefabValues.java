@@ -74,6 +74,17 @@ public final class JavaApiPrefabValues {
         this.factoryCache = factoryCache;
     }
 
+    /**
+     * Returns a JVM-wide, immutable FactoryCache pre-populated with instances of Java API classes that cannot be
+     * instantiated dynamically. It is built only once, and can be used as the base for other caches via
+     * {@link FactoryCache#merge(FactoryCache)}.
+     *
+     * @return A shared, pre-populated and immutable {@link FactoryCache}.
+     */
+    public static FactoryCache shared() {
+        return SharedHolder.INSTANCE;
+    }
+
     /**
      * Creates a FactoryCache pre-populated with instances of Java API classes that cannot be instantiated dynamically.
      *
@@ -85,6 +96,11 @@ public final class JavaApiPrefabValues {
         return result;
     }
 
+    /** Initialization-on-demand holder for the shared cache. */
+    private static final class SharedHolder {
+        private static final FactoryCache INSTANCE = build().makeImmutable();
+    }
+
     private void addJavaClasses() {
         addPrimitiveClasses();
         addCommonClasses();
@@ -1,13 +1,16 @@
 package nl.jqno.equalsverifier.internal.instantiation;
 
 import java.lang.reflect.Field;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import nl.jqno.equalsverifier.internal.SuppressFBWarnings;
 import nl.jqno.equalsverifier.internal.exceptions.ModuleException;
 import nl.jqno.equalsverifier.internal.reflection.*;
 import nl.jqno.equalsverifier.internal.util.Configuration;
+import nl.jqno.equalsverifier.internal.util.MetricsRecorder;
 import nl.jqno.equalsverifier.internal.util.Rethrow;
 import org.objenesis.Objenesis;
 
@@ -16,6 +19,9 @@ import org.objenesis.Objenesis;
  */
 public class SubjectCreator<T> {
 
+    /** Marks a slot for which no value was given, so it gets its {@link #plain()} value. */
+    private static final Object ABSENT = new Object();
+
     private final TypeTag typeTag;
     private final Class<T> type;
     private final Configuration<T> config;
@@ -25,6 +31,15 @@ public class SubjectCreator<T> {
     private final Objenesis objenesis;
     private final InstanceCreator<T> instanceCreator;
 
+    private final FieldProbe[] slots;
+    private final Map<Field, Integer> slotIndices;
+    private final Object[] redValues;
+    private final Boolean[] canBeDefault;
+
+    private Canonical<T> plain;
+    private Canonical<T> allFieldsDefaulted;
+    private Canonical<T> allFieldsChanged;
+
     /**
      * Constructor.
      *
@@ -47,6 +62,15 @@ public class SubjectCreator<T> {
         this.fieldCache = fieldCache;
         this.objenesis = objenesis;
         this.instanceCreator = new InstanceCreator<>(classProbe, objenesis);
+
+        this.slots = InstanceCreator.slots(type);
+        this.slotIndices = new HashMap<>();
+        for (int i = 0; i < slots.length; i++) {
+            slotIndices.put(slots[i].getField(), i);
+        }
+        this.redValues = new Object[slots.length];
+        Arrays.fill(redValues, ABSENT);
+        this.canBeDefault = new Boolean[slots.length];
     }
 
     /**
@@ -59,6 +83,21 @@ public class SubjectCreator<T> {
         return createInstance(empty());
     }
 
+    /**
+     * Returns a {@link #plain()} instance that is shared between callers.
+     *
+     * <p>
+     * Use this instead of {@link #plain()} when the instance is only read, and it doesn't need a distinct identity from
+     * other instances returned by this method. If a previous caller has modified the shared instance, for example
+     * because {@code equals} or {@code hashCode} initializes a lazy field, a fresh instance is created.
+     *
+     * @return A shared plain instance.
+     */
+    public T sharedPlain() {
+        plain = refresh(plain, this::plain);
+        return plain.instance;
+    }
+
     /**
      * Creates a {@link #plain()} instance, but with the given field set to its type's default value: null for object
      * references, 0 for numbers, false for booleans.
@@ -77,13 +116,21 @@ public class SubjectCreator<T> {
      * @return An instance with all fields defaulted.
      */
     public T withAllFieldsDefaulted() {
-        Map<Field, Object> values = empty();
-        for (FieldProbe p : fields()) {
-            values.put(p.getField(), null);
-        }
+        Object[] values = new Object[slots.length];
         return createInstance(values);
     }
 
+    /**
+     * Returns a {@link #withAllFieldsDefaulted()} instance that is shared between callers, with the same caveats as
+     * {@link #sharedPlain()}.
+     *
+     * @return A shared instance with all fields defaulted.
+     */
+    public T sharedWithAllFieldsDefaulted() {
+        allFieldsDefaulted = refresh(allFieldsDefaulted, this::withAllFieldsDefaulted);
+        return allFieldsDefaulted.instance;
+    }
+
     /**
      * Creates an instance with all values set to their type's default value: null for object references, 0 for numbers,
      * false for booleans; except for the given field which is set to its {@link #plain()} value.
@@ -92,12 +139,10 @@ public class SubjectCreator<T> {
      * @return An instance with all fields defaulted except for {@code field}.
      */
     public T withAllFieldsDefaultedExcept(Field field) {
-        Map<Field, Object> values = empty();
-        for (FieldProbe p : fields()) {
-            Field f = p.getField();
-            if (!f.equals(field)) {
-                values.put(f, null);
-            }
+        Object[] values = new Object[slots.length];
+        int i = slotOf(field);
+        if (i >= 0) {
+            values[i] = ABSENT;
         }
         return createInstance(values);
     }
@@ -133,15 +178,24 @@ public class SubjectCreator<T> {
      * @return A plain instance with all fields changed.
      */
     public T withAllFieldsChanged() {
-        Map<Field, Object> values = empty();
-        for (FieldProbe p : fields()) {
-            Field f = p.getField();
-            Object value = valuesFor(f).getBlue();
-            values.put(f, value);
+        Object[] values = new Object[slots.length];
+        for (int i = 0; i < slots.length; i++) {
+            values[i] = valuesFor(slots[i].getField()).getBlue();
         }
         return createInstance(values);
     }
 
+    /**
+     * Returns a {@link #withAllFieldsChanged()} instance that is shared between callers, with the same caveats as
+     * {@link #sharedPlain()}.
+     *
+     * @return A shared instance with all fields changed.
+     */
+    public T sharedWithAllFieldsChanged() {
+        allFieldsChanged = refresh(allFieldsChanged, this::withAllFieldsChanged);
+        return allFieldsChanged.instance;
+    }
+
     /**
      * Creates a {@link #plain()} instance, but with all fields that are declared in the current class set to another
      * value. Fields coming from the superclasses get their {@link #plain()} value.
@@ -149,11 +203,11 @@ public class SubjectCreator<T> {
      * @return A plain instance with all non-inherited fields changed.
      */
     public T withAllFieldsShallowlyChanged() {
-        Map<Field, Object> values = empty();
+        Object[] values = empty();
         for (FieldProbe p : nonSuperFields()) {
             Field f = p.getField();
             Object value = valuesFor(f).getBlue();
-            values.put(f, value);
+            assign(values, f, value);
         }
         return createInstance(values);
     }
@@ -165,6 +219,7 @@ public class SubjectCreator<T> {
      * @return A copy of the given original.
      */
     public T copy(T original) {
+        MetricsRecorder.current().subjectCreated();
         return Rethrow.rethrow(() -> instanceCreator.copy(original));
     }
 
@@ -176,6 +231,7 @@ public class SubjectCreator<T> {
      * @return An instance of the givenoriginal's superclass, but otherwise a copy of the original.
      */
     public Object copyIntoSuperclass(T original) {
+        MetricsRecorder.current().subjectCreated();
         InstanceCreator<? super T> superCreator = new InstanceCreator<>(ClassProbe.of(type.getSuperclass()), objenesis);
         return superCreator.copy(original);
     }
@@ -191,41 +247,72 @@ public class SubjectCreator<T> {
      * @return An instance of the given subType, but otherwise a copy of the given original.
      */
     public <S extends T> S copyIntoSubclass(T original, Class<S> subType) {
+        MetricsRecorder.current().subjectCreated();
         InstanceCreator<S> subCreator = new InstanceCreator<>(ClassProbe.of(subType), objenesis);
         return subCreator.copy(original);
     }
 
-    private T createInstance(Map<Field, Object> givens) {
-        Map<Field, Object> values = determineValues(givens);
+    private Canonical<T> refresh(Canonical<T> current, Supplier<T> creator) {
+        if (current != null && current.isIntact(slots)) {
+            return current;
+        }
+        return new Canonical<>(creator.get(), slots);
+    }
+
+    private T createInstance(Object[] givens) {
+        MetricsRecorder.current().subjectCreated();
+        Object[] values = determineValues(givens);
         return Rethrow.rethrow(() -> instanceCreator.instantiate(values));
     }
 
-    private Map<Field, Object> determineValues(Map<Field, Object> givens) {
-        Map<Field, Object> values = new HashMap<>(givens);
-        for (FieldProbe p : fields()) {
-            Field f = p.getField();
-            boolean fieldIsAbsent = !values.containsKey(f);
-            boolean fieldCannotBeNull = values.get(f) == null && !p.canBeDefault(config);
+    private Object[] determineValues(Object[] givens) {
+        for (int i = 0; i < slots.length; i++) {
+            Object given = givens[i];
+            boolean fieldIsAbsent = given == ABSENT;
+            boolean fieldCannotBeNull = given == null && !canBeDefault(i);
             if (fieldIsAbsent || fieldCannotBeNull) {
-                Object value = valuesFor(f).getRed();
-                values.put(f, value);
+                givens[i] = redValue(i);
             }
         }
-        return values;
+        return givens;
     }
 
-    private Map<Field, Object> empty() {
-        return new HashMap<>();
+    private Object redValue(int slot) {
+        if (redValues[slot] == ABSENT) {
+            redValues[slot] = valuesFor(slots[slot].getField()).getRed();
+        }
+        return redValues[slot];
     }
 
-    private Map<Field, Object> with(Field f, Object v) {
-        Map<Field, Object> result = empty();
-        result.put(f, v);
+    private boolean canBeDefault(int slot) {
+        if (canBeDefault[slot] == null) {
+            canBeDefault[slot] = slots[slot].canBeDefault(config);
+        }
+        return canBeDefault[slot];
+    }
+
+    private Object[] empty() {
+        Object[] result = new Object[slots.length];
+        Arrays.fill(result, ABSENT);
+        return result;
+    }
+
+    private Object[] with(Field f, Object v) {
+        Object[] result = empty();
+        assign(result, f, v);
         return result;
     }
 
-    private FieldIterable fields() {
-        return FieldIterable.ofIgnoringStatic(type);
+    private void assign(Object[] values, Field f, Object v) {
+        int i = slotOf(f);
+        if (i >= 0) {
+            values[i] = v;
+        }
+    }
+
+    private int slotOf(Field f) {
+        Integer result = slotIndices.get(f);
+        return result == null ? -1 : result;
     }
 
     private FieldIterable nonSuperFields() {
@@ -249,4 +336,32 @@ public class SubjectCreator<T> {
                     + f.getType().getName() + ".", e);
         }
     }
+
+    /**
+     * A memoized subject, with a snapshot of its field values to detect whether it was modified after creation.
+     */
+    private static final class Canonical<T> {
+
+        private final T instance;
+        private final Object[] snapshot;
+
+        private Canonical(T instance, FieldProbe[] slots) {
+            this.instance = instance;
+            this.snapshot = new Object[slots.length];
+            for (int i = 0; i < slots.length; i++) {
+                snapshot[i] = slots[i].getValue(instance);
+            }
+        }
+
+        private boolean isIntact(FieldProbe[] slots) {
+            for (int i = 0; i < slots.length; i++) {
+                Object current = slots[i].getValue(instance);
+                boolean same = slots[i].isPrimitive() ? current.equals(snapshot[i]) : current == snapshot[i];
+                if (!same) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
 }
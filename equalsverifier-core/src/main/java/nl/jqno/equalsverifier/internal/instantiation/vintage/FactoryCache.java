@@ -1,18 +1,38 @@
 package nl.jqno.equalsverifier.internal.instantiation.vintage;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.*;
 
+import nl.jqno.equalsverifier.internal.exceptions.EqualsVerifierInternalBugException;
 import nl.jqno.equalsverifier.internal.instantiation.vintage.prefabvalues.factories.PrefabValueFactory;
 
-/** Contains a cache of factories, for {@link VintageValueProvider}. */
+/**
+ * Contains a cache of factories, for {@link VintageValueProvider}.
+ *
+ * <p>
+ * A cache can be layered on top of an immutable base cache. Lookups that miss the cache itself fall through to the
+ * base, so the (large) base never needs to be copied.
+ */
 public class FactoryCache {
 
     /**
      * We store Strings instead of Classes, so that the cache can be lazy and initializers won't be called until the
      * class is actually needed.
      */
-    private final Map<String, PrefabValueFactory<?>> cache = new HashMap<>();
+    private final Map<String, PrefabValueFactory<?>> cache;
+
+    private final FactoryCache base;
+    private final boolean immutable;
+
+    /** Constructor. */
+    public FactoryCache() {
+        this(null, new HashMap<>(), false);
+    }
+
+    private FactoryCache(FactoryCache base, Map<String, PrefabValueFactory<?>> cache, boolean immutable) {
+        this.base = base;
+        this.cache = cache;
+        this.immutable = immutable;
+    }
 
     /**
      * Adds the given factory to the cache and associates it with the given type.
@@ -23,7 +43,7 @@ public class FactoryCache {
      */
     public <T> void put(Class<?> type, PrefabValueFactory<T> factory) {
         if (type != null) {
-            cache.put(type.getName(), factory);
+            put(type.getName(), factory);
         }
     }
 
@@ -35,6 +55,9 @@ public class FactoryCache {
      * @param factory  The factory to associate with {@code typeName}
      */
     public <T> void put(String typeName, PrefabValueFactory<T> factory) {
+        if (immutable) {
+            throw new EqualsVerifierInternalBugException("Attempted to add a factory to an immutable FactoryCache.");
+        }
         if (typeName != null) {
             cache.put(typeName, factory);
         }
@@ -55,7 +78,11 @@ public class FactoryCache {
         if (type == null) {
             return null;
         }
-        return (PrefabValueFactory<T>) cache.get(type.getName());
+        PrefabValueFactory<?> result = cache.get(type.getName());
+        if (result == null && base != null) {
+            return base.get(type);
+        }
+        return (PrefabValueFactory<T>) result;
     }
 
     /**
@@ -63,7 +90,29 @@ public class FactoryCache {
      * @return Whether a factory is available for the given type.
      */
     public boolean contains(Class<?> type) {
-        return cache.containsKey(type.getName());
+        return cache.containsKey(type.getName()) || (base != null && base.contains(type));
+    }
+
+    /**
+     * @return The names of all types for which a factory is available, including those of the base cache.
+     */
+    public SortedSet<String> getTypeNames() {
+        SortedSet<String> result = base == null ? new TreeSet<>() : base.getTypeNames();
+        result.addAll(cache.keySet());
+        return result;
+    }
+
+    /**
+     * Returns an immutable copy of {@code this}, which can safely be shared between threads and used as the base of
+     * other caches. {@code this} itself is not changed.
+     *
+     * @return An immutable {@code FactoryCache} containing the factories from {@code this}.
+     */
+    public FactoryCache makeImmutable() {
+        if (immutable) {
+            return this;
+        }
+        return new FactoryCache(base, Collections.unmodifiableMap(new HashMap<>(cache)), true);
     }
 
     /**
@@ -72,7 +121,10 @@ public class FactoryCache {
      * @return a new instance containing factories from {@code this}
      */
     public FactoryCache copy() {
-        FactoryCache result = new FactoryCache();
+        if (immutable) {
+            return new FactoryCache(this, new HashMap<>(), false);
+        }
+        FactoryCache result = new FactoryCache(base, new HashMap<>(), false);
         addAll(result, this);
         return result;
     }
@@ -85,13 +137,15 @@ public class FactoryCache {
      * @return a new instance containing factories from {@code this} and {@code other}
      */
     public FactoryCache merge(FactoryCache other) {
-        FactoryCache result = new FactoryCache();
-        addAll(result, this);
+        FactoryCache result = copy();
         addAll(result, other);
         return result;
     }
 
     private void addAll(FactoryCache to, FactoryCache from) {
+        if (from.base != null && from.base != to.base) {
+            addAll(to, from.base);
+        }
         for (Map.Entry<String, PrefabValueFactory<?>> entry : from.cache.entrySet()) {
             to.put(entry.getKey(), entry.getValue());
         }
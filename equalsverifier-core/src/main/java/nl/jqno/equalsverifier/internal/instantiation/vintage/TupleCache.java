@@ -0,0 +1,52 @@
+package nl.jqno.equalsverifier.internal.instantiation.vintage;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import nl.jqno.equalsverifier.internal.reflection.Tuple;
+import nl.jqno.equalsverifier.internal.reflection.TypeTag;
+
+/**
+ * Contains a thread-safe cache of fully created {@link Tuple}s, that can be shared between several
+ * {@link VintageValueProvider}s.
+ *
+ * <p>
+ * Only share a {@code TupleCache} between {@code VintageValueProvider}s that use equivalent {@link FactoryCache}s;
+ * otherwise, a value that was created with one set of prefab values may leak into a verification that uses another.
+ */
+public final class TupleCache {
+
+    private final Map<TypeTag, Tuple<?>> cache = new ConcurrentHashMap<>();
+
+    /**
+     * Retrieves the tuple for the given type from the cache.
+     *
+     * @param <T> The returned tuple will have this as generic type.
+     * @param tag A description of the desired type, including generic parameters.
+     * @return The tuple for the given type, or {@code null} if none is available.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Tuple<T> get(TypeTag tag) {
+        return (Tuple<T>) cache.get(tag);
+    }
+
+    /**
+     * Adds the given tuple to the cache, unless another thread has already added one for the same type.
+     *
+     * @param tag   A description of the type of the tuple, including generic parameters.
+     * @param tuple A fully created tuple.
+     */
+    public void put(TypeTag tag, Tuple<?> tuple) {
+        cache.putIfAbsent(tag, tuple);
+    }
+
+    /** @return The number of tuples in the cache. */
+    public int size() {
+        return cache.size();
+    }
+
+    /** Removes all tuples from the cache. */
+    public void clear() {
+        cache.clear();
+    }
+}
@@ -1,5 +1,6 @@
 package nl.jqno.equalsverifier.internal.instantiation.vintage;
 
+import java.lang.reflect.Field;
 import java.util.*;
 
 import nl.jqno.equalsverifier.internal.SuppressFBWarnings;
@@ -10,8 +11,10 @@ import nl.jqno.equalsverifier.internal.instantiation.vintage.prefabvalues.factor
 import nl.jqno.equalsverifier.internal.instantiation.vintage.prefabvalues.factories.PrefabValueFactory;
 import nl.jqno.equalsverifier.internal.reflection.Tuple;
 import nl.jqno.equalsverifier.internal.reflection.TypeTag;
+import nl.jqno.equalsverifier.internal.util.MetricsRecorder;
 import nl.jqno.equalsverifier.internal.util.PrimitiveMappers;
 import nl.jqno.equalsverifier.internal.util.Rethrow;
+import nl.jqno.equalsverifier.internal.versionspecific.FlightRecorderHelper;
 import org.objenesis.Objenesis;
 
 /**
@@ -24,8 +27,10 @@ public class VintageValueProvider implements ValueProvider {
 
     // I'd like to remove this, but that affects recursion detection it a way I can't yet explain
     private final Map<TypeTag, Tuple<?>> valueCache = new HashMap<>();
+    private final Map<TypeTag, Map<Field, TypeTag>> fieldTagCache = new HashMap<>();
 
     private final FactoryCache factoryCache;
+    private final TupleCache sharedCache;
     private final PrefabValueFactory<?> fallbackFactory;
 
     /**
@@ -34,9 +39,22 @@ public class VintageValueProvider implements ValueProvider {
      * @param factoryCache The factories that can be used to create values.
      * @param objenesis    To instantiate non-record classes.
      */
-    @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "A cache is inherently mutable.")
     public VintageValueProvider(FactoryCache factoryCache, Objenesis objenesis) {
+        this(factoryCache, null, objenesis);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param factoryCache The factories that can be used to create values.
+     * @param sharedCache  A cache of values that is shared with other {@code VintageValueProvider}s that use the same
+     *                         factories, or {@code null} if values should not be shared.
+     * @param objenesis    To instantiate non-record classes.
+     */
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "A cache is inherently mutable.")
+    public VintageValueProvider(FactoryCache factoryCache, TupleCache sharedCache, Objenesis objenesis) {
         this.factoryCache = factoryCache;
+        this.sharedCache = sharedCache;
         this.fallbackFactory = new FallbackFactory<>(objenesis);
     }
 
@@ -144,10 +162,39 @@ public class VintageValueProvider implements ValueProvider {
      * @param typeStack Keeps track of recursion in the type.
      */
     public <T> void realizeCacheFor(TypeTag tag, LinkedHashSet<TypeTag> typeStack) {
-        if (!valueCache.containsKey(tag)) {
-            Tuple<T> tuple = createTuple(tag, typeStack);
-            valueCache.put(tag, tuple);
+        if (valueCache.containsKey(tag)) {
+            return;
+        }
+
+        Tuple<T> tuple = sharedCache == null ? null : sharedCache.get(tag);
+        if (tuple == null) {
+            tuple = FlightRecorderHelper.valueCreation(tag, () -> createTuple(tag, typeStack));
+            MetricsRecorder.current().valueGenerated(tag.getType());
+            if (sharedCache != null) {
+                sharedCache.put(tag, tuple);
+            }
+        }
+        valueCache.put(tag, tuple);
+    }
+
+    /**
+     * Resolves the TypeTag of a field, like {@link TypeTag#of(Field, TypeTag)} does.
+     *
+     * <p>
+     * If the enclosing type has generic parameters, the result is remembered for as long as this
+     * {@code VintageValueProvider} lives, so it doesn't have to be resolved again for each value that's created.
+     *
+     * @param field         The field to resolve.
+     * @param enclosingType The type that contains the field, used to determine any generic parameters it may contain.
+     * @return The TypeTag for the given field.
+     */
+    public TypeTag tagOf(Field field, TypeTag enclosingType) {
+        if (enclosingType.getGenericTypes().isEmpty()) {
+            return TypeTag.of(field, enclosingType);
         }
+        return fieldTagCache
+                .computeIfAbsent(enclosingType, e -> new HashMap<>())
+                .computeIfAbsent(field, f -> TypeTag.of(f, enclosingType));
     }
 
     private <T> Tuple<T> giveTuple(TypeTag tag) {
@@ -18,7 +18,7 @@ public class ExternalFactory<T> implements PrefabValueFactory<T> {
             "nl.jqno.equalsverifier.internal.instantiation.vintage.prefabvalues.factoryproviders.";
 
     private final String factoryName;
-    private FactoryCache factoryCache;
+    private volatile FactoryCache factoryCache;
 
     public ExternalFactory(String factoryName) {
         this.factoryName = EXTERNAL_FACTORIES_PACKAGE + factoryName;
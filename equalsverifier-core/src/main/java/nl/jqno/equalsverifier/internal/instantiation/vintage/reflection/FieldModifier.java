@@ -7,18 +7,21 @@ import java.util.LinkedHashSet;
 
 import nl.jqno.equalsverifier.internal.exceptions.ReflectionException;
 import nl.jqno.equalsverifier.internal.instantiation.vintage.VintageValueProvider;
+import nl.jqno.equalsverifier.internal.reflection.FieldMutator;
 import nl.jqno.equalsverifier.internal.reflection.FieldProbe;
 import nl.jqno.equalsverifier.internal.reflection.TypeTag;
 
 public final class FieldModifier {
 
     private final FieldProbe fieldProbe;
+    private final FieldMutator fieldMutator;
     private final Field field;
     private final Object object;
 
     /** Private constructor. Call {@link #of(Field, Object)} to instantiate. */
     private FieldModifier(FieldProbe fieldProbe, Object object) {
         this.fieldProbe = fieldProbe;
+        this.fieldMutator = new FieldMutator(fieldProbe);
         this.field = fieldProbe.getField();
         this.object = object;
     }
@@ -44,7 +47,7 @@ public final class FieldModifier {
      * @throws ReflectionException If the operation fails.
      */
     public void copyTo(Object to) {
-        change(() -> field.set(to, field.get(object)), false);
+        change(() -> fieldMutator.setNewValue(to, fieldProbe.getValue(object)), false);
     }
 
     /**
@@ -66,9 +69,9 @@ public final class FieldModifier {
             TypeTag enclosingType,
             LinkedHashSet<TypeTag> typeStack) {
         FieldChanger fm = () -> {
-            TypeTag tag = TypeTag.of(field, enclosingType);
-            Object newValue = valueProvider.giveOther(tag, field.get(object), typeStack);
-            field.set(object, newValue);
+            TypeTag tag = valueProvider.tagOf(field, enclosingType);
+            Object newValue = valueProvider.giveOther(tag, fieldProbe.getValue(object), typeStack);
+            fieldMutator.setNewValue(object, newValue);
         };
         change(fm, false);
     }
@@ -81,7 +84,7 @@ public final class FieldModifier {
             return;
         }
 
-        field.setAccessible(true);
+        fieldProbe.makeAccessible();
         rethrow(() -> wrappedChange(changer));
     }
 
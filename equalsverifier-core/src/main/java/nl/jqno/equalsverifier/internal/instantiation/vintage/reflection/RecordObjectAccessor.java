@@ -42,7 +42,7 @@ final class RecordObjectAccessor<T> extends ObjectAccessor<T> {
             LinkedHashSet<TypeTag> typeStack) {
         return makeAccessor(fieldProbe -> {
             Object value = getField(fieldProbe);
-            TypeTag tag = TypeTag.of(fieldProbe.getField(), enclosingType);
+            TypeTag tag = valueProvider.tagOf(fieldProbe.getField(), enclosingType);
             return valueProvider.giveOther(tag, value, typeStack);
         });
     }
@@ -0,0 +1,151 @@
+package nl.jqno.equalsverifier.internal.reflection;
+
+import java.io.IOException;
+import java.nio.file.*;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.jar.asm.ClassReader;
+import net.bytebuddy.jar.asm.ClassWriter;
+import net.bytebuddy.jar.asm.commons.ClassRemapper;
+import net.bytebuddy.jar.asm.commons.SimpleRemapper;
+import nl.jqno.equalsverifier.internal.SuppressFBWarnings;
+import nl.jqno.equalsverifier.internal.util.ResultCache;
+
+/**
+ * Keeps the bytecode of generated dynamic subclasses on disk, so that later JVMs can define them straight away instead
+ * of generating them again. Enabled by setting the system property {@value #PROPERTY} to a directory.
+ *
+ * <p>
+ * A subclass is identified by a fingerprint of the bytecode of its superclass hierarchy, its name suffix, and the
+ * versions of EqualsVerifier, ByteBuddy and the JDK. Because the names of dynamic subclasses differ from one JVM to
+ * the next, the cached bytecode is renamed before it's defined.
+ *
+ * <p>
+ * Only subclasses that consist of a single class without initialization logic are cached; others are generated every
+ * time. The cache is best-effort: if it can't be read or written, subclasses are simply generated.
+ */
+final class DynamicSubclassCache {
+
+    /** The system property that enables the cache. */
+    static final String PROPERTY = "equalsverifier.dynamicSubclassCache";
+
+    private static final String BYTE_BUDDY_VERSION = ByteBuddy.class.getPackage().getImplementationVersion();
+    private static final String EXTENSION = ".class";
+
+    private final Path directory;
+
+    private DynamicSubclassCache(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Factory method.
+     *
+     * @param directory The directory in which to keep the bytecode.
+     * @return A {@code DynamicSubclassCache} that keeps its bytecode in {@code directory}.
+     */
+    static DynamicSubclassCache of(Path directory) {
+        return new DynamicSubclassCache(directory.toAbsolutePath().normalize());
+    }
+
+    /**
+     * @return A {@code DynamicSubclassCache} for the directory in the system property {@value #PROPERTY}, or null if
+     *             that property isn't set or isn't a valid path.
+     */
+    static DynamicSubclassCache configured() {
+        String value = System.getProperty(PROPERTY);
+        if (value == null || value.trim().isEmpty()) {
+            return null;
+        }
+        try {
+            return of(Paths.get(value));
+        }
+        catch (InvalidPathException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the bytecode of a subclass that was stored earlier, renamed to {@code name}.
+     *
+     * @param superclass The superclass of the dynamic subclass.
+     * @param suffix     The suffix of the dynamic subclass's name.
+     * @param name       The name that the subclass should have.
+     * @return The bytecode of the subclass, or null if it wasn't stored before.
+     */
+    @SuppressFBWarnings(value = "PZLA_PREFER_ZERO_LENGTH_ARRAYS", justification = "null means nothing was stored.")
+    byte[] load(Class<?> superclass, String suffix, String name) {
+        String fingerprint = fingerprint(superclass, suffix);
+        Path file = fingerprint == null ? null : directory.resolve(fingerprint + EXTENSION);
+        if (file == null || !Files.isRegularFile(file)) {
+            return null;
+        }
+        try {
+            return rename(Files.readAllBytes(file), name.replace('.', '/'));
+        }
+        catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Stores the bytecode of a generated subclass, if it can be defined again from its bytecode alone.
+     *
+     * @param superclass The superclass of the dynamic subclass.
+     * @param suffix     The suffix of the dynamic subclass's name.
+     * @param type       The generated subclass.
+     */
+    void store(Class<?> superclass, String suffix, DynamicType.Unloaded<?> type) {
+        if (!type.getAuxiliaryTypes().isEmpty() || type.hasAliveLoadedTypeInitializers()) {
+            return;
+        }
+        String fingerprint = fingerprint(superclass, suffix);
+        if (fingerprint == null) {
+            return;
+        }
+        try {
+            Files.createDirectories(directory);
+            Path temp = Files.createTempFile(directory, fingerprint, ".tmp");
+            try {
+                Files.write(temp, type.getBytes());
+                move(temp, directory.resolve(fingerprint + EXTENSION));
+            }
+            finally {
+                Files.deleteIfExists(temp);
+            }
+        }
+        catch (IOException | UnsupportedOperationException e) {
+            // The cache is best-effort.
+        }
+    }
+
+    private static String fingerprint(Class<?> superclass, String suffix) {
+        return ResultCache
+                .fingerprint()
+                .includingHierarchy(superclass)
+                .including("suffix", suffix)
+                .including("equalsverifier", ResultCache.EQUALSVERIFIER_VERSION)
+                .including("bytebuddy", BYTE_BUDDY_VERSION)
+                .compute();
+    }
+
+    private static byte[] rename(byte[] bytes, String internalName) {
+        ClassReader reader = new ClassReader(bytes);
+        if (reader.getClassName().equals(internalName)) {
+            return bytes;
+        }
+        ClassWriter writer = new ClassWriter(reader, 0);
+        reader.accept(new ClassRemapper(writer, new SimpleRemapper(reader.getClassName(), internalName)), 0);
+        return writer.toByteArray();
+    }
+
+    private static void move(Path from, Path to) throws IOException {
+        try {
+            Files.move(from, to, StandardCopyOption.ATOMIC_MOVE);
+        }
+        catch (AtomicMoveNotSupportedException e) {
+            Files.move(from, to, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
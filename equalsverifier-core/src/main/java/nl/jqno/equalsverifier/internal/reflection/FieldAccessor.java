@@ -0,0 +1,148 @@
+package nl.jqno.equalsverifier.internal.reflection;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+import nl.jqno.equalsverifier.internal.SuppressFBWarnings;
+import nl.jqno.equalsverifier.internal.exceptions.EqualsVerifierInternalBugException;
+import nl.jqno.equalsverifier.internal.util.MetricsRecorder;
+
+/**
+ * Reads and writes the value of a field through method handles that are resolved only once, instead of going through
+ * {@link Field#setAccessible(boolean)} and {@link Field#get(Object)} or {@link Field#set(Object, Object)} on every
+ * access.
+ *
+ * <p>
+ * Falls back to plain reflection when a method handle can't be created for the field (for instance, when it's a final
+ * field in a record), and when a method handle would reject its arguments. That way, failures surface as the same
+ * exceptions that {@link Field#get(Object)} and {@link Field#set(Object, Object)} would throw.
+ *
+ * <p>
+ * Java 8 has no {@code VarHandle}, so this uses unreflected getters and setters.
+ */
+final class FieldAccessor {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final Field field;
+    private final boolean primitive;
+    private final MethodHandle getter;
+    private final MethodHandle setter;
+
+    private FieldAccessor(Field field, MethodHandle getter, MethodHandle setter) {
+        this.field = field;
+        this.primitive = field.getType().isPrimitive();
+        this.getter = getter;
+        this.setter = setter;
+    }
+
+    /**
+     * Factory method. Makes the field accessible, so it can throw the same exceptions as
+     * {@link Field#setAccessible(boolean)}.
+     *
+     * @param field The field to access.
+     * @return A {@link FieldAccessor} for {@code field}.
+     */
+    @SuppressFBWarnings(value = "DP_DO_INSIDE_DO_PRIVILEGED", justification = "EV is run only from within unit tests")
+    static FieldAccessor of(Field field) {
+        field.setAccessible(true);
+        return new FieldAccessor(field, getterFor(field), setterFor(field));
+    }
+
+    /**
+     * Gets the field's value.
+     *
+     * @param object The object that contains the field; ignored if the field is static.
+     * @return The field's value.
+     * @throws IllegalAccessException If reflection disallows access to the field.
+     */
+    Object get(Object object) throws IllegalAccessException {
+        if (getter != null) {
+            try {
+                return getter.invokeExact(object);
+            }
+            catch (ClassCastException e) {
+                // Let reflection throw its own, more descriptive, exception.
+            }
+            catch (RuntimeException | Error e) {
+                throw e;
+            }
+            catch (Throwable e) {
+                throw new EqualsVerifierInternalBugException(e);
+            }
+        }
+        return field.get(object);
+    }
+
+    /**
+     * Sets the field's value.
+     *
+     * @param object The object that contains the field; ignored if the field is static.
+     * @param value  The value to assign to the field.
+     * @throws IllegalAccessException If reflection disallows access to the field.
+     */
+    void set(Object object, Object value) throws IllegalAccessException {
+        MetricsRecorder.current().fieldWritten();
+        if (setter != null && !(primitive && value == null)) {
+            try {
+                setter.invokeExact(object, value);
+                return;
+            }
+            catch (ClassCastException e) {
+                // Let reflection throw its own, more descriptive, exception.
+            }
+            catch (RuntimeException | Error e) {
+                throw e;
+            }
+            catch (Throwable e) {
+                throw new EqualsVerifierInternalBugException(e);
+            }
+        }
+        field.set(object, value);
+    }
+
+    /**
+     * @return A method handle of type {@code (Object)Object} that reads the field, or null if none could be created.
+     */
+    MethodHandle getter() {
+        return getter;
+    }
+
+    /**
+     * @return A method handle of type {@code (Object, Object)void} that writes the field, or null if none could be
+     *             created.
+     */
+    MethodHandle setter() {
+        return setter;
+    }
+
+    private static MethodHandle getterFor(Field field) {
+        try {
+            MethodHandle result = MethodHandles.lookup().unreflectGetter(field);
+            if (Modifier.isStatic(field.getModifiers())) {
+                result = MethodHandles.dropArguments(result, 0, Object.class);
+            }
+            return result.asType(GETTER_TYPE);
+        }
+        catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    private static MethodHandle setterFor(Field field) {
+        try {
+            MethodHandle result = MethodHandles.lookup().unreflectSetter(field);
+            if (Modifier.isStatic(field.getModifiers())) {
+                result = MethodHandles.dropArguments(result, 0, Object.class);
+            }
+            return result.asType(SETTER_TYPE);
+        }
+        catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+}
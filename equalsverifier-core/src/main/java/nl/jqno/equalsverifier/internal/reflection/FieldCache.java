@@ -58,4 +58,13 @@ public class FieldCache {
     public Set<String> getFieldNames() {
         return new HashSet<>(cache.keySet());
     }
+
+    /**
+     * @return A new cache with the same contents, that can be modified independently of this one.
+     */
+    public FieldCache copy() {
+        FieldCache result = new FieldCache();
+        result.cache.putAll(cache);
+        return result;
+    }
 }
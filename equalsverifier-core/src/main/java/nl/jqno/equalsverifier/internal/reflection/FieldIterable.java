@@ -1,15 +1,17 @@
 package nl.jqno.equalsverifier.internal.reflection;
 
 import java.lang.reflect.Field;
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.List;
+import java.util.*;
+
+import nl.jqno.equalsverifier.internal.util.ClassCache;
 
 /**
  * Iterable to iterate over all declared fields in a class and, if needed, over all declared fields of its superclasses.
  */
 public final class FieldIterable implements Iterable<FieldProbe> {
 
+    private static final ClassValue<Layout> LAYOUTS = ClassCache.of(Layout::new);
+
     private final Class<?> type;
     private final boolean includeSuperclasses;
     private final boolean includeStatic;
@@ -72,46 +74,71 @@ public final class FieldIterable implements Iterable<FieldProbe> {
      */
     @Override
     public Iterator<FieldProbe> iterator() {
-        return createFieldList().iterator();
+        return LAYOUTS.get(type).select(includeSuperclasses, includeStatic).iterator();
     }
 
-    private List<FieldProbe> createFieldList() {
-        List<FieldProbe> result = new ArrayList<>();
+    /**
+     * The fields of a class, determined once and then cached for as long as the class lives. Contains pre-built,
+     * immutable lists for each combination of {@code includeSuperclasses} and {@code includeStatic}, so iterating over
+     * them doesn't need to call {@code getDeclaredFields} again.
+     */
+    private static final class Layout {
+
+        private final List<FieldProbe> own;
+        private final List<FieldProbe> ownIgnoringStatic;
+        private final List<FieldProbe> all;
+        private final List<FieldProbe> allIgnoringStatic;
+
+        private Layout(Class<?> type) {
+            List<FieldProbe> fields = new ArrayList<>();
+            List<FieldProbe> statics = new ArrayList<>();
+            for (Field field : type.getDeclaredFields()) {
+                if (!field.isSynthetic()
+                        && !"__cobertura_counters".equals(field.getName())
+                        && !field.getName().startsWith("bitmap$init$") // Generated by Scala 2.x's -Xcheckinit flag
+                ) {
+                    FieldProbe probe = FieldProbe.of(field);
+                    if (probe.isStatic()) {
+                        statics.add(probe);
+                    }
+                    else {
+                        fields.add(probe);
+                    }
+                }
+            }
 
-        result.addAll(addFieldsFor(type));
+            this.ownIgnoringStatic = immutable(fields);
+            fields.addAll(statics);
+            this.own = immutable(fields);
 
-        if (includeSuperclasses) {
-            for (Class<?> c : SuperclassIterable.of(type)) {
-                result.addAll(addFieldsFor(c));
+            Class<?> superclass = type.getSuperclass();
+            if (superclass == null || superclass.equals(Object.class)) {
+                this.all = own;
+                this.allIgnoringStatic = ownIgnoringStatic;
+            }
+            else {
+                Layout superLayout = LAYOUTS.get(superclass);
+                this.all = concat(own, superLayout.all);
+                this.allIgnoringStatic = concat(ownIgnoringStatic, superLayout.allIgnoringStatic);
             }
         }
 
-        return result;
-    }
-
-    private List<FieldProbe> addFieldsFor(Class<?> c) {
-        List<FieldProbe> fields = new ArrayList<>();
-        List<FieldProbe> statics = new ArrayList<>();
-
-        for (Field field : c.getDeclaredFields()) {
-            if (!field.isSynthetic()
-                    && !"__cobertura_counters".equals(field.getName())
-                    && !field.getName().startsWith("bitmap$init$") // Generated by Scala 2.x's -Xcheckinit flag
-            ) {
-                FieldProbe probe = FieldProbe.of(field);
-                boolean isStatic = probe.isStatic();
-                if (isStatic && includeStatic) {
-                    statics.add(probe);
-                }
-                if (!isStatic) {
-                    fields.add(probe);
-                }
+        private List<FieldProbe> select(boolean includeSuperclasses, boolean includeStatic) {
+            if (includeSuperclasses) {
+                return includeStatic ? all : allIgnoringStatic;
             }
+            return includeStatic ? own : ownIgnoringStatic;
         }
 
-        List<FieldProbe> result = new ArrayList<>();
-        result.addAll(fields);
-        result.addAll(statics);
-        return result;
+        private static List<FieldProbe> concat(List<FieldProbe> a, List<FieldProbe> b) {
+            List<FieldProbe> result = new ArrayList<>(a.size() + b.size());
+            result.addAll(a);
+            result.addAll(b);
+            return immutable(result);
+        }
+
+        private static List<FieldProbe> immutable(List<FieldProbe> list) {
+            return Collections.unmodifiableList(Arrays.asList(list.toArray(new FieldProbe[0])));
+        }
     }
 }
@@ -2,15 +2,12 @@ package nl.jqno.equalsverifier.internal.reflection;
 
 import static nl.jqno.equalsverifier.internal.util.Rethrow.rethrow;
 
-import java.lang.reflect.Field;
-
 /**
  * Allows for a field in an object reference to be set to another value.
  */
 public class FieldMutator {
 
     private final FieldProbe probe;
-    private final Field field;
 
     /**
      * Constructor.
@@ -19,7 +16,6 @@ public class FieldMutator {
      */
     public FieldMutator(FieldProbe probe) {
         this.probe = probe;
-        this.field = probe.getField();
     }
 
     /**
@@ -31,8 +27,7 @@ public class FieldMutator {
     public void setNewValue(Object object, Object newValue) {
         rethrow(() -> {
             if (probe.canBeModifiedReflectively()) {
-                field.setAccessible(true);
-                field.set(object, newValue);
+                probe.accessor().set(object, newValue);
             }
         });
     }
@@ -0,0 +1,181 @@
+package nl.jqno.equalsverifier.internal.reflection;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.List;
+
+import nl.jqno.equalsverifier.internal.exceptions.EqualsVerifierInternalBugException;
+import nl.jqno.equalsverifier.internal.util.ClassCache;
+import nl.jqno.equalsverifier.internal.util.MetricsRecorder;
+import nl.jqno.equalsverifier.internal.util.PrimitiveMappers;
+
+/**
+ * Assigns all instance fields of a class at once, and reads them all at once, through a single method handle per
+ * operation that is composed once per class from the handles of the individual fields. The JVM compiles such a handle
+ * into bytecode, so a class that is instantiated many times doesn't pay for a reflective call per field.
+ *
+ * <p>
+ * If a handle can't be created for one of the fields, for instance because its module isn't open to EqualsVerifier,
+ * or if a value doesn't fit its field, the fields are accessed one by one through {@link FieldMutator} and
+ * {@link FieldProbe#getValue(Object)}, so failures surface the same way as before.
+ *
+ * @param <T> The class whose fields are accessed.
+ */
+public final class FieldPopulator<T> {
+
+    private static final MethodType ACTION_TYPE = MethodType.methodType(void.class, Object.class, Object[].class);
+    private static final MethodHandle NOOP = MethodHandles
+            .dropArguments(MethodHandles.constant(Object.class, null), 0, Object.class, Object[].class)
+            .asType(ACTION_TYPE);
+
+    private static final ClassValue<FieldPopulator<?>> CACHE = ClassCache.of(FieldPopulator::new);
+
+    private final FieldProbe[] slots;
+    private final Object[] defaults;
+    private final int writableCount;
+    private final MethodHandle populator;
+    private final MethodHandle reader;
+
+    private FieldPopulator(Class<T> type) {
+        List<FieldProbe> fields = new ArrayList<>();
+        for (FieldProbe p : FieldIterable.ofIgnoringStatic(type)) {
+            fields.add(p);
+        }
+        this.slots = fields.toArray(new FieldProbe[0]);
+        this.defaults = new Object[slots.length];
+        int writable = 0;
+        for (int i = 0; i < slots.length; i++) {
+            defaults[i] = PrimitiveMappers.DEFAULT_VALUE_MAPPER.get(slots[i].getType());
+            if (slots[i].canBeModifiedReflectively()) {
+                writable++;
+            }
+        }
+        this.writableCount = writable;
+        this.populator = compose(true);
+        this.reader = compose(false);
+    }
+
+    /**
+     * Factory method. Populators are created only once per class.
+     *
+     * @param <T>  The class whose fields are accessed.
+     * @param type The class whose fields are accessed.
+     * @return A {@link FieldPopulator} for {@code type}.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> FieldPopulator<T> of(Class<T> type) {
+        return (FieldPopulator<T>) CACHE.get(type);
+    }
+
+    /**
+     * Returns the fields that this populator assigns, in the order in which {@link #populate(Object, Object[])} expects
+     * their values.
+     *
+     * @return The non-static fields of the class and its superclasses.
+     */
+    public FieldProbe[] slots() {
+        return slots.clone();
+    }
+
+    /**
+     * Assigns the given values to the fields of {@code instance}. A null value sets a field to its default value: null
+     * for object references, 0 for numbers, false for booleans. Fields that can't be modified are skipped.
+     *
+     * @param instance The instance whose fields to assign.
+     * @param values   The values to assign, indexed by slot.
+     */
+    public void populate(T instance, Object[] values) {
+        Object[] actual = new Object[slots.length];
+        for (int i = 0; i < slots.length; i++) {
+            actual[i] = values[i] == null ? defaults[i] : values[i];
+        }
+        if (populator != null && invoke(populator, instance, actual)) {
+            MetricsRecorder.current().fieldsWritten(writableCount);
+            return;
+        }
+        for (int i = 0; i < slots.length; i++) {
+            new FieldMutator(slots[i]).setNewValue(instance, actual[i]);
+        }
+    }
+
+    /**
+     * Reads the values of all fields of {@code original}.
+     *
+     * @param original An instance of the class, or of one of its subclasses.
+     * @return The values of the fields, indexed by slot.
+     */
+    public Object[] read(T original) {
+        Object[] result = new Object[slots.length];
+        if (reader != null && invoke(reader, original, result)) {
+            return result;
+        }
+        for (int i = 0; i < slots.length; i++) {
+            result[i] = slots[i].getValue(original);
+        }
+        return result;
+    }
+
+    private static boolean invoke(MethodHandle action, Object instance, Object[] values) {
+        try {
+            action.invokeExact(instance, values);
+            return true;
+        }
+        catch (ClassCastException e) {
+            // Let the field-by-field path throw its own, more descriptive, exception.
+            return false;
+        }
+        catch (RuntimeException | Error e) {
+            throw e;
+        }
+        catch (Throwable e) {
+            throw new EqualsVerifierInternalBugException(e);
+        }
+    }
+
+    /**
+     * Folds the handles of all fields into one handle of type {@code (Object, Object[])void}, which either assigns the
+     * array's elements to the fields of the object, or stores the values of the fields of the object in the array.
+     */
+    private MethodHandle compose(boolean write) {
+        try {
+            MethodHandle result = NOOP;
+            for (int i = slots.length - 1; i >= 0; i--) {
+                FieldProbe p = slots[i];
+                if (write && !p.canBeModifiedReflectively()) {
+                    continue;
+                }
+                MethodHandle step = write ? writeStep(p, i) : readStep(p, i);
+                if (step == null) {
+                    return null;
+                }
+                result = MethodHandles.foldArguments(result, step);
+            }
+            return result;
+        }
+        catch (RuntimeException e) {
+            // For instance, when the module that contains the field isn't open to EqualsVerifier.
+            return null;
+        }
+    }
+
+    private static MethodHandle writeStep(FieldProbe probe, int index) {
+        MethodHandle setter = probe.accessor().setter();
+        if (setter == null) {
+            return null;
+        }
+        MethodHandle element = MethodHandles.insertArguments(MethodHandles.arrayElementGetter(Object[].class), 1, index);
+        return MethodHandles.filterArguments(setter, 1, element);
+    }
+
+    private static MethodHandle readStep(FieldProbe probe, int index) {
+        MethodHandle getter = probe.accessor().getter();
+        if (getter == null) {
+            return null;
+        }
+        MethodHandle element = MethodHandles.insertArguments(MethodHandles.arrayElementSetter(Object[].class), 1, index);
+        MethodHandle store = MethodHandles.filterArguments(element, 1, getter);
+        return MethodHandles.permuteArguments(store, ACTION_TYPE, 1, 0);
+    }
+}
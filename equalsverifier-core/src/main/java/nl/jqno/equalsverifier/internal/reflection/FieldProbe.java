@@ -18,6 +18,7 @@ import nl.jqno.equalsverifier.internal.util.Configuration;
 public final class FieldProbe {
 
     private final Field field;
+    private FieldAccessor accessor;
 
     /** Private constructor. Call {@link #of(Field)} to instantiate. */
     private FieldProbe(Field field) {
@@ -47,12 +48,32 @@ public final class FieldProbe {
      * @return The field's value.
      * @throws ReflectionException If the operation fails.
      */
-    @SuppressFBWarnings(
-            value = "DP_DO_INSIDE_DO_PRIVILEGED",
-            justification = "Only called in test code, not production.")
     public Object getValue(Object object) {
-        field.setAccessible(true);
-        return rethrow(() -> field.get(object));
+        FieldAccessor a = accessor();
+        return rethrow(() -> a.get(object));
+    }
+
+    /**
+     * Makes the field accessible, if that hasn't happened yet.
+     *
+     * <p>
+     * Can throw the same unchecked exceptions as {@link Field#setAccessible(boolean)}.
+     */
+    public void makeAccessible() {
+        accessor();
+    }
+
+    /**
+     * Returns an accessor for the field, which is created only once per probe. Makes the field accessible the first time
+     * it's called.
+     *
+     * @return An accessor for the field.
+     */
+    /* default */ FieldAccessor accessor() {
+        if (accessor == null) {
+            accessor = FieldAccessor.of(field);
+        }
+        return accessor;
     }
 
     /** @return The field's type. */
@@ -0,0 +1,237 @@
+package nl.jqno.equalsverifier.internal.reflection;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
+
+import net.bytebuddy.jar.asm.*;
+
+import nl.jqno.equalsverifier.internal.util.ClassCache;
+
+/**
+ * Finds out which fields a class's {@code equals} and {@code hashCode} methods read, by looking at their bytecode and
+ * at the bytecode of the methods of the class that they call. Doesn't instantiate anything.
+ *
+ * <p>
+ * The analysis is conservative: as soon as the methods do something that might read fields in a way that can't be
+ * seen in the bytecode of the class itself, such as calling a method of another class, calling an inherited method,
+ * using reflection or {@code invokedynamic}, the result is inconclusive and every field counts as read. Another class
+ * may have been given {@code this} earlier, for instance in a field initializer, so only a few methods of the JDK are
+ * known not to read fields. Calls to {@code equals} and {@code hashCode} of other objects, such as the values of
+ * fields, are assumed not to inspect the class under test.
+ */
+public final class FieldReads {
+
+    private static final FieldReads INCONCLUSIVE = new FieldReads(null);
+    private static final String EQUALS = "equals(Ljava/lang/Object;)Z";
+    private static final String HASH_CODE = "hashCode()I";
+    private static final Set<String> CONTRACT_METHODS = new HashSet<>(Arrays.asList(EQUALS, HASH_CODE));
+    private static final Map<String, Set<String>> HARMLESS_METHODS = harmlessMethods();
+
+    private static final ClassValue<FieldReads> CACHE = ClassCache.of(FieldReads::analyze);
+
+    private final Set<String> names;
+
+    private FieldReads(Set<String> names) {
+        this.names = names;
+    }
+
+    /**
+     * Returns the fields that {@code type}'s {@code equals} and {@code hashCode} read. The result is cached.
+     *
+     * @param type The class to analyze.
+     * @return The fields that {@code type}'s {@code equals} and {@code hashCode} read.
+     */
+    public static FieldReads of(Class<?> type) {
+        return CACHE.get(type);
+    }
+
+    /**
+     * @return Whether the analysis could determine exactly which fields are read.
+     */
+    public boolean isConclusive() {
+        return names != null;
+    }
+
+    /**
+     * @param fieldName The name of a field.
+     * @return Whether {@code equals} or {@code hashCode} may read the field with the given name. Always true if the
+     *             analysis is inconclusive.
+     */
+    public boolean mayRead(String fieldName) {
+        return names == null || names.contains(fieldName);
+    }
+
+    private static FieldReads analyze(Class<?> type) {
+        ClassLoader cl = type.getClassLoader();
+        if (cl == null || type.isInterface() || type.isArray()) {
+            return INCONCLUSIVE;
+        }
+        try (InputStream in = cl.getResourceAsStream(type.getName().replace('.', '/') + ".class")) {
+            if (in == null) {
+                return INCONCLUSIVE;
+            }
+            MethodCollector collector = new MethodCollector(Type.getInternalName(type), supertypesOf(type));
+            new ClassReader(readFully(in)).accept(collector, ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+            return collector.readsFrom(EQUALS, HASH_CODE);
+        }
+        catch (IOException | RuntimeException e) {
+            return INCONCLUSIVE;
+        }
+    }
+
+    private static Set<String> supertypesOf(Class<?> type) {
+        Set<String> result = new HashSet<>();
+        Deque<Class<?>> todo = new ArrayDeque<>();
+        todo.add(type);
+        while (!todo.isEmpty()) {
+            Class<?> c = todo.pop();
+            if (result.add(Type.getInternalName(c))) {
+                if (c.getSuperclass() != null) {
+                    todo.add(c.getSuperclass());
+                }
+                todo.addAll(Arrays.asList(c.getInterfaces()));
+            }
+        }
+        result.add(Type.getInternalName(Object.class));
+        return result;
+    }
+
+    private static byte[] readFully(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int read = in.read(buffer);
+        while (read >= 0) {
+            out.write(buffer, 0, read);
+            read = in.read(buffer);
+        }
+        return out.toByteArray();
+    }
+
+    private static Map<String, Set<String>> harmlessMethods() {
+        // Methods that don't look at their arguments, or only call equals and hashCode on them.
+        Map<String, Set<String>> result = new HashMap<>();
+        result.put("java/lang/Object", setOf("equals", "hashCode", "getClass"));
+        result.put("java/lang/Class", setOf("isInstance", "cast", "isAssignableFrom", "getName"));
+        result.put("java/lang/Boolean", setOf("valueOf", "compare", "hashCode", "booleanValue"));
+        result.put("java/lang/Byte", setOf("valueOf", "compare", "hashCode", "byteValue"));
+        result.put("java/lang/Character", setOf("valueOf", "compare", "hashCode", "charValue"));
+        result.put("java/lang/Short", setOf("valueOf", "compare", "hashCode", "shortValue"));
+        result.put("java/lang/Integer", setOf("valueOf", "compare", "hashCode", "intValue"));
+        result.put("java/lang/Long", setOf("valueOf", "compare", "hashCode", "longValue"));
+        result.put("java/lang/Float", setOf("valueOf", "compare", "hashCode", "floatValue", "floatToIntBits"));
+        result.put("java/lang/Double", setOf("valueOf", "compare", "hashCode", "doubleValue", "doubleToLongBits"));
+        result
+                .put(
+                    "java/util/Objects",
+                    setOf("equals", "deepEquals", "hash", "hashCode", "isNull", "nonNull", "requireNonNull"));
+        result.put("java/util/Arrays", setOf("equals", "deepEquals", "hashCode", "deepHashCode"));
+        result.put("kotlin/jvm/internal/Intrinsics", setOf("areEqual"));
+        return result;
+    }
+
+    private static Set<String> setOf(String... names) {
+        return new HashSet<>(Arrays.asList(names));
+    }
+
+    /**
+     * Summarizes every method of a class: the fields it reads, the methods of the same class it calls, and whether it
+     * does anything that makes the analysis inconclusive.
+     */
+    private static final class MethodCollector extends ClassVisitor {
+
+        private final String self;
+        private final Set<String> supertypes;
+        private final Map<String, MethodSummary> methods = new HashMap<>();
+
+        private MethodCollector(String self, Set<String> supertypes) {
+            super(Opcodes.ASM9);
+            this.self = self;
+            this.supertypes = supertypes;
+        }
+
+        @Override
+        public MethodVisitor visitMethod(
+                int access,
+                String name,
+                String descriptor,
+                String signature,
+                String[] exceptions) {
+            MethodSummary summary = new MethodSummary(this);
+            summary.inconclusive = (access & (Opcodes.ACC_ABSTRACT | Opcodes.ACC_NATIVE)) != 0;
+            methods.put(name + descriptor, summary);
+            return summary;
+        }
+
+        private FieldReads readsFrom(String... roots) {
+            Set<String> reads = new HashSet<>();
+            Set<String> visited = new HashSet<>();
+            Deque<String> todo = new ArrayDeque<>(Arrays.asList(roots));
+            while (!todo.isEmpty()) {
+                String method = todo.pop();
+                if (!visited.add(method)) {
+                    continue;
+                }
+                MethodSummary summary = methods.get(method);
+                if (summary == null || summary.inconclusive) {
+                    return INCONCLUSIVE;
+                }
+                reads.addAll(summary.reads);
+                todo.addAll(summary.calls);
+            }
+            return new FieldReads(reads);
+        }
+
+        private boolean isHarmless(String owner, String name, String descriptor) {
+            Set<String> harmless = HARMLESS_METHODS.get(owner);
+            if (harmless != null && harmless.contains(name)) {
+                return true;
+            }
+            return CONTRACT_METHODS.contains(name + descriptor) && !supertypes.contains(owner);
+        }
+    }
+
+    private static final class MethodSummary extends MethodVisitor {
+
+        private final MethodCollector owner;
+        private final Set<String> reads = new HashSet<>();
+        private final Set<String> calls = new HashSet<>();
+        private boolean inconclusive;
+
+        private MethodSummary(MethodCollector owner) {
+            super(Opcodes.ASM9);
+            this.owner = owner;
+        }
+
+        @Override
+        public void visitFieldInsn(int opcode, String fieldOwner, String name, String descriptor) {
+            if (opcode == Opcodes.GETFIELD || opcode == Opcodes.GETSTATIC) {
+                reads.add(name);
+            }
+            else if (Type.getType(descriptor).getSort() >= Type.ARRAY) {
+                // Storing a reference somewhere lets code outside this class get hold of it.
+                inconclusive = true;
+            }
+        }
+
+        @Override
+        public void visitMethodInsn(int opcode, String methodOwner, String name, String descriptor, boolean isInterface) {
+            if (methodOwner.equals(owner.self)) {
+                calls.add(name + descriptor);
+            }
+            else if (!owner.isHarmless(methodOwner, name, descriptor)) {
+                inconclusive = true;
+            }
+        }
+
+        @Override
+        public void visitInvokeDynamicInsn(
+                String name,
+                String descriptor,
+                Handle bootstrapMethodHandle,
+                Object... bootstrapMethodArguments) {
+            inconclusive = true;
+        }
+    }
+}
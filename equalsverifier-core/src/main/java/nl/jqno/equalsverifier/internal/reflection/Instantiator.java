@@ -5,18 +5,33 @@ import static nl.jqno.equalsverifier.internal.reflection.Util.classes;
 import static nl.jqno.equalsverifier.internal.reflection.Util.objects;
 
 import java.lang.invoke.MethodHandles;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.UnaryOperator;
 
 import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.dynamic.DynamicType;
 import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
 import net.bytebuddy.dynamic.scaffold.TypeValidation;
+import nl.jqno.equalsverifier.internal.util.ClassCache;
+import nl.jqno.equalsverifier.internal.util.MetricsRecorder;
+import nl.jqno.equalsverifier.internal.versionspecific.FlightRecorderHelper;
+import nl.jqno.equalsverifier.internal.versionspecific.HiddenClassHelper;
 import nl.jqno.equalsverifier.internal.versionspecific.SealedTypesHelper;
 import org.objenesis.Objenesis;
 import org.objenesis.instantiator.ObjectInstantiator;
+import org.objenesis.instantiator.sun.UnsafeFactoryInstantiator;
 
 /**
  * Instantiates objects of a given class.
@@ -25,9 +40,19 @@ import org.objenesis.instantiator.ObjectInstantiator;
  */
 public final class Instantiator<T> {
 
+    /**
+     * The system property that makes dynamic subclasses of concrete classes hidden classes, on Java 15 and later. Hidden
+     * classes aren't kept alive by their classloader, so they're unloaded when the verification that needed them is
+     * done.
+     */
+    static final String HIDDEN_SUBCLASSES_PROPERTY = "equalsverifier.hiddenSubclasses";
+
     private static final List<String> FORBIDDEN_PACKAGES =
             Arrays.asList("java.", "javax.", "sun.", "com.sun.", "org.w3c.dom.");
     private static final String FALLBACK_PACKAGE_NAME = getPackageName(Instantiator.class);
+    private static final ByteBuddy BYTE_BUDDY = new ByteBuddy().with(TypeValidation.DISABLED);
+    private static final ClassValue<DynamicSubclasses> DYNAMIC_SUBCLASSES = ClassCache
+            .of(type -> new DynamicSubclasses());
 
     private final Class<T> type;
     private final Objenesis objenesis;
@@ -37,7 +62,10 @@ public final class Instantiator<T> {
     private Instantiator(Class<T> type, Objenesis objenesis) {
         this.type = type;
         this.objenesis = objenesis;
-        this.objenesisInstantiator = objenesis.getInstantiatorOf(type);
+        // Objenesis's default strategy refers to the class by name, which doesn't work for hidden classes.
+        this.objenesisInstantiator = HiddenClassHelper.isHidden(type)
+                ? new UnsafeFactoryInstantiator<>(type)
+                : objenesis.getInstantiatorOf(type);
     }
 
     /**
@@ -78,40 +106,273 @@ public final class Instantiator<T> {
      */
     public T instantiateAnonymousSubclass() {
         Class<T> proxyClass = giveDynamicSubclass(type);
-        return objenesis.newInstance(proxyClass);
+        return new Instantiator<>(proxyClass, objenesis).instantiate();
     }
 
     public static <S> Class<S> giveDynamicSubclass(Class<S> superclass) {
         return giveDynamicSubclass(superclass, "", b -> b);
     }
 
-    @SuppressWarnings("unchecked")
-    public static synchronized <S> Class<S> giveDynamicSubclass(
+    public static <S> Class<S> giveDynamicSubclass(
             Class<S> superclass,
             String nameSuffix,
             UnaryOperator<DynamicType.Builder<S>> modify) {
-        boolean isSystemClass = isSystemClass(superclass.getName());
+        return giveDynamicSubclasses(superclass, Collections.singletonMap(nameSuffix, modify)).get(nameSuffix);
+    }
 
-        String namePrefix = isSystemClass ? FALLBACK_PACKAGE_NAME : getPackageName(superclass);
-        String name = namePrefix + (namePrefix.isEmpty() ? "" : ".") + superclass.getSimpleName() + "$$DynamicSubclass$"
-                + Integer.toHexString(superclass.hashCode()) + "$" + nameSuffix;
+    /**
+     * Gives several dynamic subclasses of the same superclass at once. Subclasses that were generated before are taken
+     * from a cache; the others are generated and loaded together.
+     *
+     * <p>
+     * Looking up subclasses that were generated before doesn't take a lock. Generating new subclasses only locks the
+     * given superclass, so verifications of unrelated classes can generate their subclasses concurrently.
+     *
+     * @param <S>        The superclass.
+     * @param superclass The superclass.
+     * @param modifiers  For each subclass, the suffix of its name and a modification to apply to its definition.
+     * @return The subclasses, keyed by suffix.
+     */
+    public static <S> Map<String, Class<S>> giveDynamicSubclasses(
+            Class<S> superclass,
+            Map<String, UnaryOperator<DynamicType.Builder<S>>> modifiers) {
+        Map<String, Class<S>> result = new HashMap<>();
+        FlightRecorderHelper
+                .dynamicSubclasses(
+                    superclass,
+                    modifiers.size(),
+                    () -> collectOrGenerate(superclass, modifiers, result));
+        return result;
+    }
+
+    /** Fills {@code result}, and returns whether all subclasses were found in the cache. */
+    private static <S> boolean collectOrGenerate(
+            Class<S> superclass,
+            Map<String, UnaryOperator<DynamicType.Builder<S>>> modifiers,
+            Map<String, Class<S>> result) {
+        DynamicSubclasses cache = DYNAMIC_SUBCLASSES.get(superclass);
+        if (collectCached(cache.classes, modifiers.keySet(), result)) {
+            return true;
+        }
+
+        synchronized (cache) {
+            if (collectCached(cache.classes, modifiers.keySet(), result)) {
+                return true;
+            }
+            for (Map.Entry<String, Class<S>> entry : generate(superclass, modifiers, result.keySet()).entrySet()) {
+                cache.classes.put(entry.getKey(), new WeakReference<>(entry.getValue()));
+                result.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return false;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <S> boolean collectCached(
+            Map<String, WeakReference<Class<?>>> cache,
+            Set<String> suffixes,
+            Map<String, Class<S>> result) {
+        for (String suffix : suffixes) {
+            WeakReference<Class<?>> ref = cache.get(suffix);
+            Class<?> c = ref == null ? null : ref.get();
+            if (c != null) {
+                result.put(suffix, (Class<S>) c);
+            }
+        }
+        return result.size() == suffixes.size();
+    }
 
+    @SuppressWarnings("unchecked")
+    private static <S> Map<String, Class<S>> generate(
+            Class<S> superclass,
+            Map<String, UnaryOperator<DynamicType.Builder<S>>> modifiers,
+            Set<String> skip) {
+        boolean isSystemClass = isSystemClass(superclass.getName());
+        String namePrefix = isSystemClass ? FALLBACK_PACKAGE_NAME : getPackageName(superclass);
         Class<?> context = isSystemClass ? Instantiator.class : superclass;
         ClassLoader classLoader = context.getClassLoader();
+        boolean hidden = definesHiddenSubclasses(superclass);
 
-        // `mvn quarkus:dev` does strange classloader stuff. We need to make sure that we
-        // check existence with the correct classloader. I don't know how to unit test this.
-        Class<S> existsAlready = (Class<S>) classForName(classLoader, name);
-        if (existsAlready != null) {
-            return existsAlready;
+        Map<String, Class<S>> result = new HashMap<>();
+        Map<String, String> names = new HashMap<>();
+        for (String suffix : modifiers.keySet()) {
+            if (skip.contains(suffix)) {
+                continue;
+            }
+            String name = dynamicSubclassName(namePrefix, superclass, suffix);
+
+            // `mvn quarkus:dev` does strange classloader stuff. We need to make sure that we
+            // check existence with the correct classloader. I don't know how to unit test this.
+            Class<S> existsAlready = (Class<S>) classForName(classLoader, name);
+            if (existsAlready != null) {
+                result.put(suffix, existsAlready);
+                continue;
+            }
+            names.put(name, suffix);
         }
 
-        ClassLoadingStrategy<ClassLoader> cs = getClassLoadingStrategy(context);
-        DynamicType.Builder<S> builder = new ByteBuddy().with(TypeValidation.DISABLED).subclass(superclass).name(name);
+        DynamicSubclassCache diskCache = DynamicSubclassCache.configured();
+        if (diskCache != null && !names.isEmpty()) {
+            defineCached(superclass, diskCache, context, names, hidden, result);
+        }
 
-        builder = modify.apply(builder);
+        List<DynamicType.Unloaded<S>> unloaded = make(superclass, modifiers, names, result.keySet(), diskCache);
+        load(unloaded, context, hidden, names, result);
+        return result;
+    }
 
-        return (Class<S>) builder.make().load(classLoader, cs).getLoaded();
+    private static <S> List<DynamicType.Unloaded<S>> make(
+            Class<S> superclass,
+            Map<String, UnaryOperator<DynamicType.Builder<S>>> modifiers,
+            Map<String, String> suffixesByName,
+            Set<String> skip,
+            DynamicSubclassCache diskCache) {
+        List<DynamicType.Unloaded<S>> result = new ArrayList<>();
+        for (Map.Entry<String, String> entry : suffixesByName.entrySet()) {
+            String suffix = entry.getValue();
+            if (skip.contains(suffix)) {
+                continue;
+            }
+            DynamicType.Builder<S> builder = BYTE_BUDDY.subclass(superclass).name(entry.getKey());
+            DynamicType.Unloaded<S> type = modifiers.get(suffix).apply(builder).make();
+            MetricsRecorder.current().dynamicSubclassGenerated();
+            if (diskCache != null) {
+                diskCache.store(superclass, suffix, type);
+            }
+            result.add(type);
+        }
+        return result;
+    }
+
+    /**
+     * Defines the subclasses whose bytecode was cached on disk. If that fails, for instance because the cached bytecode
+     * was damaged, the subclasses that weren't defined are left out of {@code result}, so they're generated instead.
+     */
+    @SuppressWarnings("unchecked")
+    private static <S> void defineCached(
+            Class<S> superclass,
+            DynamicSubclassCache diskCache,
+            Class<?> context,
+            Map<String, String> suffixesByName,
+            boolean hidden,
+            Map<String, Class<S>> result) {
+        TypeDescription.Generic superType = TypeDescription.Generic.OfNonGenericType.ForLoadedType.of(superclass);
+        Map<TypeDescription, byte[]> types = new LinkedHashMap<>();
+        for (Map.Entry<String, String> entry : suffixesByName.entrySet()) {
+            byte[] bytes = diskCache.load(superclass, entry.getValue(), entry.getKey());
+            if (bytes != null) {
+                types.put(new TypeDescription.Latent(entry.getKey(), Modifier.PUBLIC, superType), bytes);
+            }
+        }
+        if (types.isEmpty()) {
+            return;
+        }
+
+        try {
+            Map<TypeDescription, Class<?>> loaded = hidden
+                    ? defineHidden(context, types)
+                    : getClassLoadingStrategy(context).load(context.getClassLoader(), types);
+            for (Map.Entry<TypeDescription, Class<?>> entry : loaded.entrySet()) {
+                result.put(suffixesByName.get(entry.getKey().getName()), (Class<S>) entry.getValue());
+            }
+        }
+        catch (RuntimeException | LinkageError e) {
+            // Keep the subclasses that were defined before the failure, and generate the others instead.
+            for (TypeDescription type : types.keySet()) {
+                Class<?> defined = classForName(context.getClassLoader(), type.getName());
+                if (defined != null) {
+                    result.put(suffixesByName.get(type.getName()), (Class<S>) defined);
+                }
+            }
+        }
+    }
+
+    private static String dynamicSubclassName(String namePrefix, Class<?> superclass, String nameSuffix) {
+        return namePrefix + (namePrefix.isEmpty() ? "" : ".") + superclass.getSimpleName() + "$$DynamicSubclass$"
+                + Integer.toHexString(superclass.hashCode()) + "$" + nameSuffix;
+    }
+
+    private static <S> void load(
+            List<DynamicType.Unloaded<S>> unloaded,
+            Class<?> context,
+            boolean hidden,
+            Map<String, String> suffixesByName,
+            Map<String, Class<S>> result) {
+        List<DynamicType.Unloaded<S>> remaining =
+                hidden ? loadHidden(unloaded, context, suffixesByName, result) : unloaded;
+        if (!remaining.isEmpty()) {
+            loadTogether(remaining, context, suffixesByName, result);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <S> void loadTogether(
+            List<DynamicType.Unloaded<S>> unloaded,
+            Class<?> context,
+            Map<String, String> suffixesByName,
+            Map<String, Class<S>> result) {
+        Map<TypeDescription, Class<?>> loaded = unloaded
+                .get(0)
+                .include(unloaded.subList(1, unloaded.size()))
+                .load(context.getClassLoader(), getClassLoadingStrategy(context))
+                .getAllLoaded();
+        for (Map.Entry<TypeDescription, Class<?>> entry : loaded.entrySet()) {
+            String suffix = suffixesByName.get(entry.getKey().getName());
+            if (suffix != null) {
+                result.put(suffix, (Class<S>) entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Defines the subclasses that consist of a single class without initialization logic as hidden classes, and returns
+     * the others, which other classes may need to refer to by name. If that fails, all subclasses are returned, so they
+     * can be defined normally.
+     */
+    @SuppressWarnings("unchecked")
+    private static <S> List<DynamicType.Unloaded<S>> loadHidden(
+            List<DynamicType.Unloaded<S>> unloaded,
+            Class<?> context,
+            Map<String, String> suffixesByName,
+            Map<String, Class<S>> result) {
+        List<DynamicType.Unloaded<S>> remaining = new ArrayList<>();
+        Map<TypeDescription, byte[]> types = new LinkedHashMap<>();
+        for (DynamicType.Unloaded<S> type : unloaded) {
+            if (type.getAuxiliaryTypes().isEmpty() && !type.hasAliveLoadedTypeInitializers()) {
+                types.put(type.getTypeDescription(), type.getBytes());
+            }
+            else {
+                remaining.add(type);
+            }
+        }
+        try {
+            for (Map.Entry<TypeDescription, Class<?>> entry : defineHidden(context, types).entrySet()) {
+                result.put(suffixesByName.get(entry.getKey().getName()), (Class<S>) entry.getValue());
+            }
+            return remaining;
+        }
+        catch (RuntimeException | LinkageError e) {
+            // For instance, when the superclass's module doesn't give EqualsVerifier full access.
+            return unloaded;
+        }
+    }
+
+    private static Map<TypeDescription, Class<?>> defineHidden(Class<?> context, Map<TypeDescription, byte[]> types) {
+        Map<TypeDescription, Class<?>> result = new HashMap<>();
+        for (Map.Entry<TypeDescription, byte[]> entry : types.entrySet()) {
+            result.put(entry.getKey(), HiddenClassHelper.defineHiddenClass(context, entry.getValue()));
+        }
+        return result;
+    }
+
+    /**
+     * Subclasses of abstract classes stand in for their superclass, and can be subclassed in turn. A hidden class can't
+     * be, so those are always defined normally.
+     */
+    private static boolean definesHiddenSubclasses(Class<?> superclass) {
+        return Boolean.getBoolean(HIDDEN_SUBCLASSES_PROPERTY)
+                && HiddenClassHelper.isSupported()
+                && !Modifier.isAbstract(superclass.getModifiers());
     }
 
     private static String getPackageName(Class<?> type) {
@@ -144,4 +405,14 @@ public final class Instantiator<T> {
         }
         return false;
     }
+
+    /**
+     * The dynamic subclasses of one superclass, keyed by name suffix. Also serves as the lock for generating new ones.
+     * The subclasses are referenced weakly, so hidden subclasses can be unloaded; other subclasses are kept alive by
+     * their classloader anyway.
+     */
+    private static final class DynamicSubclasses {
+
+        private final ConcurrentMap<String, WeakReference<Class<?>>> classes = new ConcurrentHashMap<>();
+    }
 }
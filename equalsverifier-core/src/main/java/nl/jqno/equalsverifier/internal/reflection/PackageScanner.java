@@ -2,16 +2,37 @@ package nl.jqno.equalsverifier.internal.reflection;
 
 import static nl.jqno.equalsverifier.internal.util.Rethrow.rethrow;
 
-import java.io.File;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.JarURLConnection;
 import java.net.URL;
-import java.util.Arrays;
-import java.util.Collections;
-import java.util.List;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 
-/** Scans a package for classes. */
+import net.bytebuddy.jar.asm.ClassReader;
+import net.bytebuddy.jar.asm.ClassVisitor;
+import net.bytebuddy.jar.asm.Opcodes;
+
+/**
+ * Scans a package for classes.
+ *
+ * <p>
+ * Reads the package from directories as well as from jar files. Class files are read and inspected in parallel before
+ * any of them are loaded, so classes that will be filtered out anyway are never loaded. The remaining classes are
+ * loaded without being initialized.
+ */
 public final class PackageScanner {
 
+    private static final String CLASS_EXTENSION = ".class";
+
     /** Should not be instantiated. */
     private PackageScanner() {}
 
@@ -26,60 +47,223 @@ public final class PackageScanner {
      * @return the classes contained in the given package.
      */
     public static List<Class<?>> getClassesIn(String packageName, Class<?> mustExtend, boolean scanRecursively) {
-        return getDirs(packageName)
-                .stream()
-                .flatMap(d -> getClassesInDir(packageName, d, mustExtend, scanRecursively).stream())
+        ClassLoader cl = Thread.currentThread().getContextClassLoader();
+        String path = packageName.replace('.', '/');
+
+        Map<String, ClassHeader> headers = new HashMap<>();
+        for (URL resource : getResources(cl, path, packageName)) {
+            readHeaders(resource, path, scanRecursively).forEach(h -> headers.putIfAbsent(h.name, h));
+        }
+        Map<String, ClassHeader> known = new ConcurrentHashMap<>(headers);
+
+        String target = mustExtend == null ? null : internalName(mustExtend);
+        return headers
+                .values()
+                .parallelStream()
+                .filter(h -> !h.isLocalOrAnonymous)
+                .filter(h -> !h.name.endsWith("Test"))
+                .filter(h -> target == null || !h.name.equals(target))
+                .map(h -> new Candidate(h, target == null ? Ancestry.YES : ancestry(h.name, target, known, cl)))
+                .filter(c -> c.ancestry != Ancestry.NO)
+                .map(c -> new Candidate(c.header, c.ancestry, load(c.header.name, packageName, cl)))
+                .filter(c -> c.ancestry == Ancestry.YES || mustExtend.isAssignableFrom(c.type))
+                .map(c -> c.type)
+                .sorted(Comparator.comparing(Class::getName))
                 .collect(Collectors.toList());
     }
 
-    private static List<File> getDirs(String packageName) {
-        ClassLoader cl = Thread.currentThread().getContextClassLoader();
-        String path = packageName.replace('.', '/');
-        return rethrow(
-            () -> Collections
-                    .list(cl.getResources(path))
-                    .stream()
-                    .map(r -> new File(getResourcePath(r)))
-                    .collect(Collectors.toList()),
-            e -> "Could not scan package " + packageName);
+    private static List<URL> getResources(ClassLoader cl, String path, String packageName) {
+        return rethrow(() -> Collections.list(cl.getResources(path)), e -> "Could not scan package " + packageName);
     }
 
-    private static String getResourcePath(URL r) {
-        return rethrow(() -> r.toURI().getPath(), e -> "Could not resolve resource path: " + e.getMessage());
+    private static List<ClassHeader> readHeaders(URL resource, String path, boolean scanRecursively) {
+        if ("file".equals(resource.getProtocol())) {
+            Path dir = rethrow(() -> Paths.get(resource.toURI()), e -> "Could not resolve resource path: " + resource);
+            return readHeadersFromDir(dir, scanRecursively);
+        }
+        if ("jar".equals(resource.getProtocol())) {
+            return readHeadersFromJar(resource, path, scanRecursively);
+        }
+        return Collections.emptyList();
     }
 
-    private static List<Class<?>> getClassesInDir(
-            String packageName,
-            File dir,
-            Class<?> mustExtend,
-            boolean scanRecursively) {
-        if (!dir.exists()) {
+    private static List<ClassHeader> readHeadersFromDir(Path dir, boolean scanRecursively) {
+        if (!Files.isDirectory(dir)) {
             return Collections.emptyList();
         }
-        return Arrays
-                .stream(dir.listFiles())
-                .filter(f -> (scanRecursively && f.isDirectory()) || f.getName().endsWith(".class"))
-                .flatMap(f -> {
-                    List<Class<?>> classes;
-                    if (f.isDirectory()) {
-                        classes = getClassesInDir(packageName + "." + f.getName(), f, mustExtend, scanRecursively);
-                    }
-                    else {
-                        classes = Collections.singletonList(fileToClass(packageName, f));
-                    }
-                    return classes.stream();
-                })
-                .filter(c -> !c.isAnonymousClass())
-                .filter(c -> !c.isLocalClass())
-                .filter(c -> !c.getName().endsWith("Test"))
-                .filter(c -> mustExtend == null || (mustExtend.isAssignableFrom(c) && !mustExtend.equals(c)))
-                .collect(Collectors.toList());
+        int maxDepth = scanRecursively ? Integer.MAX_VALUE : 1;
+        return rethrow(() -> {
+            try (Stream<Path> files = Files.walk(dir, maxDepth)) {
+                List<Path> classFiles = files.filter(PackageScanner::isClassFile).collect(Collectors.toList());
+                return classFiles
+                        .parallelStream()
+                        .map(f -> ClassHeader.of(rethrow(() -> Files.readAllBytes(f))))
+                        .collect(Collectors.toList());
+            }
+        }, e -> "Could not scan directory " + dir);
+    }
+
+    private static boolean isClassFile(Path file) {
+        String name = file.toString();
+        return name.endsWith(CLASS_EXTENSION) && Files.isRegularFile(file) && !isMetadata(name);
+    }
+
+    private static List<ClassHeader> readHeadersFromJar(URL resource, String path, boolean scanRecursively) {
+        Path jar = rethrow(
+            () -> Paths.get(((JarURLConnection) resource.openConnection()).getJarFileURL().toURI()),
+            e -> "Could not resolve jar file: " + resource);
+        String prefix = path + "/";
+        return rethrow(() -> {
+            try (ZipFile zip = new ZipFile(jar.toFile())) {
+                List<ZipEntry> entries = Collections
+                        .list(zip.entries())
+                        .stream()
+                        .filter(e -> isClassEntryIn(e, prefix, scanRecursively))
+                        .collect(Collectors.toList());
+                return entries
+                        .parallelStream()
+                        .map(e -> ClassHeader.of(rethrow(() -> readFully(zip.getInputStream(e)))))
+                        .collect(Collectors.toList());
+            }
+        }, e -> "Could not scan jar file " + jar);
+    }
+
+    private static boolean isClassEntryIn(ZipEntry entry, String prefix, boolean scanRecursively) {
+        String name = entry.getName();
+        if (entry.isDirectory() || !name.startsWith(prefix) || !name.endsWith(CLASS_EXTENSION)) {
+            return false;
+        }
+        String relative = name.substring(prefix.length());
+        return (scanRecursively || relative.indexOf('/') < 0) && !isMetadata(relative);
+    }
+
+    private static boolean isMetadata(String fileName) {
+        return fileName.endsWith("package-info.class") || fileName.endsWith("module-info.class");
+    }
+
+    private static byte[] readFully(InputStream in) throws IOException {
+        try (InputStream input = in) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int read = input.read(buffer);
+            while (read >= 0) {
+                out.write(buffer, 0, read);
+                read = input.read(buffer);
+            }
+            return out.toByteArray();
+        }
     }
 
-    private static Class<?> fileToClass(String packageName, File file) {
-        String className = file.getName().substring(0, file.getName().length() - 6);
+    /**
+     * Determines whether {@code name} extends or implements {@code target}, using the headers of the scanned class files
+     * where possible, and the class files of the class loader otherwise. Doesn't load any classes. Headers that are read
+     * from the class loader are added to {@code known}.
+     */
+    private static Ancestry ancestry(String name, String target, Map<String, ClassHeader> known, ClassLoader cl) {
+        if (name == null) {
+            return Ancestry.NO;
+        }
+        if (name.equals(target)) {
+            return Ancestry.YES;
+        }
+        ClassHeader header = known.computeIfAbsent(name, n -> readHeaderFromClassLoader(n, cl));
+        if (header == ClassHeader.UNKNOWN) {
+            return Ancestry.UNKNOWN;
+        }
+
+        Ancestry result = ancestry(header.superName, target, known, cl);
+        for (String i : header.interfaces) {
+            if (result == Ancestry.YES) {
+                return result;
+            }
+            Ancestry a = ancestry(i, target, known, cl);
+            result = a == Ancestry.NO ? result : a;
+        }
+        return result;
+    }
+
+    private static ClassHeader readHeaderFromClassLoader(String name, ClassLoader cl) {
+        try (InputStream in = cl.getResourceAsStream(name + CLASS_EXTENSION)) {
+            return in == null ? ClassHeader.UNKNOWN : ClassHeader.of(readFully(in));
+        }
+        catch (IOException | RuntimeException e) {
+            return ClassHeader.UNKNOWN;
+        }
+    }
+
+    private static Class<?> load(String internalName, String packageName, ClassLoader cl) {
+        String className = internalName.replace('/', '.');
         return rethrow(
-            () -> Class.forName(packageName + "." + className),
+            () -> Class.forName(className, false, cl),
             e -> "Could not resolve class " + className + ", which was found in package " + packageName);
     }
+
+    private static String internalName(Class<?> type) {
+        return type.getName().replace('.', '/');
+    }
+
+    private enum Ancestry {
+        YES, NO, UNKNOWN
+    }
+
+    private static final class Candidate {
+
+        private final ClassHeader header;
+        private final Ancestry ancestry;
+        private final Class<?> type;
+
+        private Candidate(ClassHeader header, Ancestry ancestry) {
+            this(header, ancestry, null);
+        }
+
+        private Candidate(ClassHeader header, Ancestry ancestry, Class<?> type) {
+            this.header = header;
+            this.ancestry = ancestry;
+            this.type = type;
+        }
+    }
+
+    /**
+     * The parts of a class file that the scanner needs: its name, its direct supertypes, and whether it's a local or
+     * anonymous class.
+     */
+    private static final class ClassHeader extends ClassVisitor {
+
+        private static final ClassHeader UNKNOWN = new ClassHeader();
+
+        private String name;
+        private String superName;
+        private String[] interfaces = new String[0];
+        private boolean isLocalOrAnonymous = false;
+
+        private ClassHeader() {
+            super(Opcodes.ASM9);
+        }
+
+        private static ClassHeader of(byte[] bytes) {
+            ClassHeader result = new ClassHeader();
+            new ClassReader(bytes)
+                    .accept(result, ClassReader.SKIP_CODE | ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+            return result;
+        }
+
+        @Override
+        public void visit(
+                int version,
+                int access,
+                String className,
+                String signature,
+                String superClassName,
+                String[] interfaceNames) {
+            this.name = className;
+            this.superName = superClassName;
+            this.interfaces = interfaceNames == null ? new String[0] : interfaceNames;
+        }
+
+        @Override
+        public void visitOuterClass(String owner, String methodName, String methodDescriptor) {
+            // Only local and anonymous classes have an EnclosingMethod attribute.
+            this.isLocalOrAnonymous = true;
+        }
+    }
 }
@@ -1,12 +1,18 @@
 package nl.jqno.equalsverifier.internal.reflection;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 
+import nl.jqno.equalsverifier.internal.util.ClassCache;
+
 /** Iterable to iterate over all superclasses of a class. */
 public final class SuperclassIterable<T> implements Iterable<Class<? super T>> {
 
+    private static final ClassValue<List<Class<?>>> WITHOUT_SELF = ClassCache.of(SuperclassIterable::superclasses);
+    private static final ClassValue<List<Class<?>>> WITH_SELF = ClassCache.of(SuperclassIterable::selfAndSuperclasses);
+
     private final Class<T> type;
     private final boolean includeSelf;
 
@@ -47,20 +53,26 @@ public final class SuperclassIterable<T> implements Iterable<Class<? super T>> {
      * @return The iterator.
      */
     @Override
+    @SuppressWarnings("unchecked")
     public Iterator<Class<? super T>> iterator() {
-        return createClassList().iterator();
+        List<Class<?>> result = includeSelf ? WITH_SELF.get(type) : WITHOUT_SELF.get(type);
+        return (Iterator<Class<? super T>>) (Iterator<?>) result.iterator();
     }
 
-    private List<Class<? super T>> createClassList() {
-        List<Class<? super T>> result = new ArrayList<>();
-        if (includeSelf) {
-            result.add(type);
-        }
-        Class<? super T> i = type.getSuperclass();
+    private static List<Class<?>> superclasses(Class<?> type) {
+        List<Class<?>> result = new ArrayList<>();
+        Class<?> i = type.getSuperclass();
         while (i != null && !i.equals(Object.class)) {
             result.add(i);
             i = i.getSuperclass();
         }
-        return result;
+        return Collections.unmodifiableList(result);
+    }
+
+    private static List<Class<?>> selfAndSuperclasses(Class<?> type) {
+        List<Class<?>> result = new ArrayList<>();
+        result.add(type);
+        result.addAll(WITHOUT_SELF.get(type));
+        return Collections.unmodifiableList(result);
     }
 }
@@ -4,22 +4,35 @@ import static nl.jqno.equalsverifier.internal.reflection.Util.classForName;
 
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
+import nl.jqno.equalsverifier.internal.SuppressFBWarnings;
 import nl.jqno.equalsverifier.internal.exceptions.EqualsVerifierInternalBugException;
+import nl.jqno.equalsverifier.internal.util.ClassCache;
 
 /**
  * Represents a generic type, including raw type and generic type parameters.
  *
  * <p>
  * If the type is not generic, the genericTypes list will be empty.
+ *
+ * <p>
+ * TypeTags are immutable and compute their hashCode up front, because they're used as keys in the caches of generated
+ * values. If a field's enclosing type has no generic parameters, the field's TypeTag doesn't depend on it and is
+ * resolved only once.
  */
 public final class TypeTag {
 
     /** Null object for TypeTag. */
     public static final TypeTag NULL = new TypeTag(NullType.class);
 
+    private static final ClassValue<ConcurrentMap<String, TypeTag>> RESOLVED_FIELDS =
+            ClassCache.of(type -> new ConcurrentHashMap<>());
+
     private final Class<?> type;
     private final List<TypeTag> genericTypes;
+    private final int cachedHashCode;
 
     /**
      * Constructor.
@@ -36,7 +49,10 @@ public final class TypeTag {
             throw new NullPointerException("type");
         }
         this.type = type;
-        this.genericTypes = genericTypes;
+        this.genericTypes = genericTypes.isEmpty()
+                ? Collections.emptyList()
+                : Collections.unmodifiableList(new ArrayList<>(genericTypes));
+        this.cachedHashCode = calcHashCode();
     }
 
     /**
@@ -48,7 +64,14 @@ public final class TypeTag {
      * @return The TypeTag for the given field.
      */
     public static TypeTag of(Field field, TypeTag enclosingType) {
-        return resolve(field.getGenericType(), field.getType(), enclosingType, false);
+        if (!enclosingType.genericTypes.isEmpty()) {
+            return resolve(field.getGenericType(), field.getType(), enclosingType, false);
+        }
+        return RESOLVED_FIELDS
+                .get(field.getDeclaringClass())
+                .computeIfAbsent(
+                    field.getName(),
+                    n -> resolve(field.getGenericType(), field.getType(), enclosingType, false));
     }
 
     private static TypeTag resolve(
@@ -56,16 +79,14 @@ public final class TypeTag {
             Class<?> typeAsClass,
             TypeTag enclosingType,
             boolean shortCircuitRecursiveTypeBound) {
-        List<TypeTag> nestedTags = new ArrayList<>();
         if (type instanceof Class) {
-            return processClass((Class<?>) type, nestedTags);
+            return new TypeTag((Class<?>) type);
         }
         if (type instanceof ParameterizedType) {
             return processParameterizedType(
                 (ParameterizedType) type,
                 typeAsClass,
                 enclosingType,
-                nestedTags,
                 shortCircuitRecursiveTypeBound);
         }
         if (type instanceof GenericArrayType) {
@@ -85,17 +106,13 @@ public final class TypeTag {
                 "Failed to tag type " + type.toString() + " (" + type.getClass() + ")");
     }
 
-    private static TypeTag processClass(Class<?> type, List<TypeTag> nestedTags) {
-        return new TypeTag(type, nestedTags);
-    }
-
     private static TypeTag processParameterizedType(
             ParameterizedType type,
             Class<?> typeAsClass,
             TypeTag enclosingType,
-            List<TypeTag> nestedTags,
             boolean shortCircuitRecursiveTypeBound) {
         Type[] typeArgs = type.getActualTypeArguments();
+        List<TypeTag> nestedTags = new ArrayList<>(typeArgs.length);
         for (Type typeArg : typeArgs) {
             nestedTags.add(resolve(typeArg, typeAsClass, enclosingType, shortCircuitRecursiveTypeBound));
         }
@@ -174,23 +191,33 @@ public final class TypeTag {
     }
 
     /** @return The TypeTag's generic types. */
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP", justification = "The list is unmodifiable.")
     public List<TypeTag> getGenericTypes() {
-        return Collections.unmodifiableList(genericTypes);
+        return genericTypes;
     }
 
     /** {@inheritDoc} */
     @Override
     public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
         if (!(obj instanceof TypeTag)) {
             return false;
         }
         TypeTag other = (TypeTag) obj;
-        return type.equals(other.type) && genericTypes.equals(other.genericTypes);
+        return cachedHashCode == other.cachedHashCode
+                && type.equals(other.type)
+                && genericTypes.equals(other.genericTypes);
     }
 
     /** {@inheritDoc} */
     @Override
     public int hashCode() {
+        return cachedHashCode;
+    }
+
+    private int calcHashCode() {
         int result = 37;
         result = (59 * result) + type.hashCode();
         result = (59 * result) + genericTypes.hashCode();
@@ -6,7 +6,9 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.WeakHashMap;
 import java.util.function.Consumer;
 
 import net.bytebuddy.description.annotation.AnnotationDescription;
@@ -15,11 +17,20 @@ import net.bytebuddy.description.field.FieldDescription;
 import net.bytebuddy.description.method.MethodDescription;
 import net.bytebuddy.description.method.MethodList;
 import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.ClassFileLocator;
 import net.bytebuddy.pool.TypePool;
 import nl.jqno.equalsverifier.internal.reflection.SuperclassIterable;
+import nl.jqno.equalsverifier.internal.versionspecific.FlightRecorderHelper;
 
 public class AnnotationCacheBuilder {
 
+    /**
+     * Type pools are shared between verifications, so the bytecode of a class is parsed only once per classloader, even
+     * when it's visited for many classes (for example, a common superclass or a {@code package-info}). Both the
+     * classloaders and the parsed descriptions are referenced weakly or softly, so they can still be collected.
+     */
+    private static final Map<ClassLoader, TypePool> POOLS = Collections.synchronizedMap(new WeakHashMap<>());
+
     private final List<Annotation> supportedAnnotations;
     private final Set<String> ignoredAnnotations;
 
@@ -28,13 +39,23 @@ public class AnnotationCacheBuilder {
         this.ignoredAnnotations = Collections.unmodifiableSet(ignoredAnnotations);
     }
 
+    /**
+     * Releases the type pools that are shared between verifications.
+     */
+    public static void clearTypePools() {
+        POOLS.clear();
+    }
+
     public void build(Class<?> type, AnnotationCache cache) {
         if (cache.hasResolved(type)) {
             return;
         }
+        FlightRecorderHelper.annotationCache(type, () -> buildUncached(type, cache));
+    }
 
+    private void buildUncached(Class<?> type, AnnotationCache cache) {
         try {
-            TypePool pool = TypePool.Default.of(type.getClassLoader());
+            TypePool pool = poolFor(type.getClassLoader());
             TypeDescription typeDescription = pool.describe(type.getName()).resolve();
 
             visitType(setOf(type), cache, typeDescription, false);
@@ -42,11 +63,21 @@ public class AnnotationCacheBuilder {
             visitOuterClasses(type, cache, pool);
             visitPackage(type, cache, pool);
         }
-        catch (IllegalStateException ignored) {
-            // Just ignore this class if it can't be processed.
+        catch (IllegalStateException | IllegalArgumentException ignored) {
+            // Just ignore this class if it can't be processed, for instance because it's a hidden class.
         }
     }
 
+    private static TypePool poolFor(ClassLoader classLoader) {
+        return POOLS.computeIfAbsent(classLoader, AnnotationCacheBuilder::createPool);
+    }
+
+    private static TypePool createPool(ClassLoader classLoader) {
+        return new TypePool.Default(new TypePool.CacheProvider.Simple.UsingSoftReference(),
+            ClassFileLocator.ForClassLoader.WeaklyReferenced.of(classLoader),
+            TypePool.Default.ReaderMode.FAST);
+    }
+
     private void visitType(
             Set<Class<?>> types,
             AnnotationCache cache,
@@ -0,0 +1,71 @@
+package nl.jqno.equalsverifier.internal.util;
+
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+
+/**
+ * Creates the {@link ClassValue}s in which EqualsVerifier caches what it learns about classes, and keeps track of them
+ * so {@link #clearAll()} can release their values.
+ *
+ * <p>
+ * A {@code ClassValue} stores its values in the class itself, so the values never keep a class or its classloader
+ * alive. They do keep their own classes alive, though: when EqualsVerifier is loaded by a classloader that is
+ * discarded later, such as in a hot-reloading development server, the values it caches for classes of the JDK keep
+ * that classloader alive. Clearing the caches prevents this.
+ */
+public final class ClassCache {
+
+    private static final List<Tracked<?>> ALL = new CopyOnWriteArrayList<>();
+
+    private ClassCache() {}
+
+    /**
+     * Creates a cache that computes a value at most once per class, until it's cleared.
+     *
+     * @param <V>     The type of the cached values.
+     * @param compute Computes the value for a class.
+     * @return A {@link ClassValue} that can be cleared by {@link #clearAll()}.
+     */
+    public static <V> ClassValue<V> of(Function<Class<?>, V> compute) {
+        Tracked<V> result = new Tracked<>(compute);
+        ALL.add(result);
+        return result;
+    }
+
+    /**
+     * Removes the values from all caches created by {@link #of(Function)}. They're computed again when they're needed.
+     */
+    public static void clearAll() {
+        for (Tracked<?> cache : ALL) {
+            cache.clear();
+        }
+    }
+
+    private static final class Tracked<V> extends ClassValue<V> {
+
+        private final Function<Class<?>, V> compute;
+        private final Set<Class<?>> computed = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
+        private Tracked(Function<Class<?>, V> compute) {
+            this.compute = compute;
+        }
+
+        @Override
+        protected V computeValue(Class<?> type) {
+            computed.add(type);
+            return compute.apply(type);
+        }
+
+        private void clear() {
+            List<Class<?>> types;
+            synchronized (computed) {
+                types = new ArrayList<>(computed);
+                computed.clear();
+            }
+            for (Class<?> type : types) {
+                remove(type);
+            }
+        }
+    }
+}
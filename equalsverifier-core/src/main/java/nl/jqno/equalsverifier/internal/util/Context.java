@@ -5,6 +5,7 @@ import nl.jqno.equalsverifier.internal.instantiation.JavaApiPrefabValues;
 import nl.jqno.equalsverifier.internal.instantiation.SubjectCreator;
 import nl.jqno.equalsverifier.internal.instantiation.ValueProvider;
 import nl.jqno.equalsverifier.internal.instantiation.vintage.FactoryCache;
+import nl.jqno.equalsverifier.internal.instantiation.vintage.TupleCache;
 import nl.jqno.equalsverifier.internal.instantiation.vintage.VintageValueProvider;
 import nl.jqno.equalsverifier.internal.reflection.ClassProbe;
 import nl.jqno.equalsverifier.internal.reflection.FieldCache;
@@ -16,26 +17,72 @@ public final class Context<T> {
     private final Configuration<T> configuration;
     private final ClassProbe<T> classProbe;
     private final FieldCache fieldCache;
+    private final FactoryCache factoryCache;
+    private final TupleCache tupleCache;
+    private final Objenesis objenesis;
+    private final boolean parallelFieldChecks;
+    private final ViolationCollector violationCollector;
 
     private final SubjectCreator<T> subjectCreator;
     private final ValueProvider valueProvider;
 
-    @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "FieldCache is inherently mutable")
     public Context(
             Configuration<T> configuration,
             FactoryCache factoryCache,
+            TupleCache tupleCache,
             FieldCache fieldCache,
             Objenesis objenesis) {
+        this(configuration, factoryCache, tupleCache, fieldCache, objenesis, false, null);
+    }
+
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "FieldCache and TupleCache are inherently mutable")
+    public Context(
+            Configuration<T> configuration,
+            FactoryCache factoryCache,
+            TupleCache tupleCache,
+            FieldCache fieldCache,
+            Objenesis objenesis,
+            boolean parallelFieldChecks,
+            ViolationCollector violationCollector) {
         this.type = configuration.getType();
         this.configuration = configuration;
         this.classProbe = ClassProbe.of(configuration.getType());
         this.fieldCache = fieldCache;
+        this.factoryCache = JavaApiPrefabValues.shared().merge(factoryCache);
+        this.tupleCache = tupleCache;
+        this.objenesis = objenesis;
+        this.parallelFieldChecks = parallelFieldChecks;
+        this.violationCollector = violationCollector;
+
+        this.valueProvider = new VintageValueProvider(this.factoryCache, tupleCache, objenesis);
+        this.subjectCreator = new SubjectCreator<>(configuration, valueProvider, fieldCache, objenesis);
+    }
+
+    private Context(Context<T> original) {
+        this.type = original.type;
+        this.configuration = original.configuration;
+        this.classProbe = original.classProbe;
+        this.fieldCache = original.fieldCache.copy();
+        this.factoryCache = original.factoryCache;
+        this.tupleCache = original.tupleCache;
+        this.objenesis = original.objenesis;
+        this.parallelFieldChecks = original.parallelFieldChecks;
+        this.violationCollector = original.violationCollector;
 
-        FactoryCache cache = JavaApiPrefabValues.build().merge(factoryCache);
-        this.valueProvider = new VintageValueProvider(cache, objenesis);
+        this.valueProvider = new VintageValueProvider(factoryCache, tupleCache, objenesis);
         this.subjectCreator = new SubjectCreator<>(configuration, valueProvider, fieldCache, objenesis);
     }
 
+    /**
+     * Creates a context for the same configuration, with its own {@link SubjectCreator}, {@link ValueProvider} and
+     * {@link FieldCache}. None of those is thread-safe, so a task that runs on another thread needs a fork of its own.
+     *
+     * @return A new context that shares the configuration and caches with this one.
+     */
+    public Context<T> fork() {
+        return new Context<>(this);
+    }
+
     public Class<T> getType() {
         return type;
     }
@@ -61,4 +108,16 @@ public final class Context<T> {
     public SubjectCreator<T> getSubjectCreator() {
         return subjectCreator;
     }
+
+    public boolean isParallelFieldChecks() {
+        return parallelFieldChecks;
+    }
+
+    /**
+     * @return The collector for the problems that are found, or null if the verification should stop at the first
+     *             problem.
+     */
+    public ViolationCollector getViolationCollector() {
+        return violationCollector;
+    }
 }
@@ -0,0 +1,326 @@
+package nl.jqno.equalsverifier.internal.util;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import nl.jqno.equalsverifier.EqualsVerifierListener;
+import nl.jqno.equalsverifier.EqualsVerifierMetrics;
+
+/**
+ * Collects the timings and counters for an {@link EqualsVerifierMetrics}, and passes the lifecycle of a verification
+ * on to its {@link EqualsVerifierListener}s.
+ *
+ * <p>
+ * The counters are incremented from deep inside EqualsVerifier, where the verification that causes them isn't known.
+ * Therefore, a recorder is bound to the thread that performs the verification, and {@link #current()} finds it there.
+ * When no verification collects metrics or has listeners, {@link #current()} returns a recorder that ignores
+ * everything, without looking at the thread at all.
+ */
+public final class MetricsRecorder {
+
+    private static final EqualsVerifierListener[] NO_LISTENERS = new EqualsVerifierListener[0];
+    private static final MetricsRecorder DISABLED = new MetricsRecorder(null, false, NO_LISTENERS);
+    private static final ThreadLocal<MetricsRecorder> CURRENT = new ThreadLocal<>();
+    private static final AtomicInteger ACTIVE = new AtomicInteger();
+
+    private final Class<?> type;
+    private final boolean enabled;
+    private final boolean collectMetrics;
+    private final EqualsVerifierListener[] listeners;
+    private final long startNanos;
+    private final long startAllocatedBytes;
+    private final Map<String, LongAdder> checkerNanos = Collections.synchronizedMap(new LinkedHashMap<>());
+    private final LongAdder subjectsCreated = new LongAdder();
+    private final LongAdder valuesGenerated = new LongAdder();
+    private final LongAdder dynamicSubclassesGenerated = new LongAdder();
+    private final LongAdder fieldWrites = new LongAdder();
+
+    private MetricsRecorder(Class<?> type, boolean collectMetrics, EqualsVerifierListener[] listeners) {
+        this.type = type;
+        this.collectMetrics = collectMetrics;
+        this.listeners = listeners;
+        this.enabled = collectMetrics || listeners.length > 0;
+        this.startNanos = enabled ? System.nanoTime() : 0;
+        this.startAllocatedBytes = collectMetrics ? allocatedBytes() : -1;
+    }
+
+    /**
+     * Factory method. Starts the clock and notifies the listeners that the verification has started.
+     *
+     * @param type           The class under test.
+     * @param collectMetrics Whether metrics should be collected.
+     * @param listeners      The listeners to notify; may be empty.
+     * @return A new recorder, or one that ignores everything if there's nothing to collect and no one to notify.
+     */
+    public static MetricsRecorder start(Class<?> type, boolean collectMetrics, List<EqualsVerifierListener> listeners) {
+        if (!collectMetrics && listeners.isEmpty()) {
+            return DISABLED;
+        }
+        MetricsRecorder result =
+                new MetricsRecorder(type, collectMetrics, listeners.toArray(new EqualsVerifierListener[0]));
+        for (EqualsVerifierListener listener : result.listeners) {
+            listener.verificationStarted(type);
+        }
+        return result;
+    }
+
+    /**
+     * @return The recorder that is bound to the current thread, or one that ignores everything if there is none.
+     */
+    public static MetricsRecorder current() {
+        if (ACTIVE.get() == 0) {
+            return DISABLED;
+        }
+        MetricsRecorder result = CURRENT.get();
+        return result == null ? DISABLED : result;
+    }
+
+    /**
+     * @return Whether this recorder collects metrics or has listeners to notify.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Binds this recorder to the current thread, until the returned {@link Binding} is closed.
+     *
+     * @return A {@link Binding} that restores the previous recorder when it's closed.
+     */
+    public Binding bind() {
+        if (!enabled) {
+            return () -> {};
+        }
+        MetricsRecorder previous = CURRENT.get();
+        CURRENT.set(this);
+        ACTIVE.incrementAndGet();
+        return () -> {
+            ACTIVE.decrementAndGet();
+            if (previous == null) {
+                CURRENT.remove();
+            }
+            else {
+                CURRENT.set(previous);
+            }
+        };
+    }
+
+    /**
+     * Runs the given checker, records how long it took and notifies the listeners.
+     *
+     * @param name   The name of the checker.
+     * @param action The checker to run.
+     */
+    public void checker(String name, Runnable action) {
+        if (!enabled) {
+            action.run();
+            return;
+        }
+        for (EqualsVerifierListener listener : listeners) {
+            listener.checkerStarted(type, name);
+        }
+        long start = System.nanoTime();
+        try {
+            action.run();
+        }
+        finally {
+            long nanos = System.nanoTime() - start;
+            record(name, nanos);
+            for (EqualsVerifierListener listener : listeners) {
+                listener.checkerFinished(type, name, Duration.ofNanos(nanos));
+            }
+        }
+    }
+
+    /**
+     * Runs part of a checker and records how long it took. Doesn't notify the listeners.
+     *
+     * @param name   The name under which to record the time.
+     * @param action The part of the checker to run.
+     */
+    public void time(String name, Runnable action) {
+        if (!collectMetrics) {
+            action.run();
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            action.run();
+        }
+        finally {
+            record(name, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Notifies the listeners that a check on a single field is about to start.
+     *
+     * @param check The name of the check.
+     * @param field The name of the field.
+     * @return The start time, to pass on to {@link #fieldCheckFinished(String, String, long)}.
+     */
+    public long fieldCheckStarted(String check, String field) {
+        if (listeners.length == 0) {
+            return 0;
+        }
+        for (EqualsVerifierListener listener : listeners) {
+            listener.fieldCheckStarted(type, check, field);
+        }
+        return System.nanoTime();
+    }
+
+    /**
+     * Notifies the listeners that a check on a single field has finished.
+     *
+     * @param check The name of the check.
+     * @param field The name of the field.
+     * @param start The value returned by {@link #fieldCheckStarted(String, String)}.
+     */
+    public void fieldCheckFinished(String check, String field, long start) {
+        if (listeners.length == 0) {
+            return;
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        for (EqualsVerifierListener listener : listeners) {
+            listener.fieldCheckFinished(type, check, field, elapsed);
+        }
+    }
+
+    /** Counts an instance of the class under test. */
+    public void subjectCreated() {
+        if (collectMetrics) {
+            subjectsCreated.increment();
+        }
+    }
+
+    /**
+     * Counts a generated field value and notifies the listeners.
+     *
+     * @param valueType The type of the generated value.
+     */
+    public void valueGenerated(Class<?> valueType) {
+        if (collectMetrics) {
+            valuesGenerated.increment();
+        }
+        for (EqualsVerifierListener listener : listeners) {
+            listener.valueGenerated(type, valueType);
+        }
+    }
+
+    /** Counts a subclass that was generated at runtime. */
+    public void dynamicSubclassGenerated() {
+        if (collectMetrics) {
+            dynamicSubclassesGenerated.increment();
+        }
+    }
+
+    /** Counts a reflective write to a field. */
+    public void fieldWritten() {
+        if (collectMetrics) {
+            fieldWrites.increment();
+        }
+    }
+
+    /**
+     * Counts several writes to fields at once.
+     *
+     * @param count The number of fields that were written.
+     */
+    public void fieldsWritten(int count) {
+        if (collectMetrics) {
+            fieldWrites.add(count);
+        }
+    }
+
+    /** Notifies the listeners that the verification has finished successfully. */
+    public void succeeded() {
+        finished(true);
+    }
+
+    /**
+     * Notifies the listeners that the verification has failed.
+     *
+     * @param message The error message.
+     * @param cause   The exception that caused the failure.
+     */
+    public void failed(String message, Throwable cause) {
+        for (EqualsVerifierListener listener : listeners) {
+            listener.verificationFailed(type, message, cause);
+        }
+        finished(false);
+    }
+
+    private void finished(boolean successful) {
+        if (listeners.length == 0) {
+            return;
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startNanos);
+        for (EqualsVerifierListener listener : listeners) {
+            listener.verificationFinished(type, successful, elapsed);
+        }
+    }
+
+    private void record(String name, long nanos) {
+        if (collectMetrics) {
+            checkerNanos.computeIfAbsent(name, n -> new LongAdder()).add(nanos);
+        }
+    }
+
+    /**
+     * Stops the clock and returns the collected metrics.
+     *
+     * @return The collected metrics, or {@code null} if this recorder doesn't collect metrics.
+     */
+    public EqualsVerifierMetrics finish() {
+        if (!collectMetrics) {
+            return null;
+        }
+        Duration wallTime = Duration.ofNanos(System.nanoTime() - startNanos);
+        long endAllocatedBytes = allocatedBytes();
+        long allocated = startAllocatedBytes < 0 || endAllocatedBytes < 0 ? -1 : endAllocatedBytes - startAllocatedBytes;
+
+        Map<String, Duration> times = new LinkedHashMap<>();
+        synchronized (checkerNanos) {
+            checkerNanos.forEach((name, nanos) -> times.put(name, Duration.ofNanos(nanos.sum())));
+        }
+        return new EqualsVerifierMetrics(wallTime,
+                times,
+                subjectsCreated.sum(),
+                valuesGenerated.sum(),
+                dynamicSubclassesGenerated.sum(),
+                fieldWrites.sum(),
+                allocated);
+    }
+
+    @SuppressWarnings("deprecation") // Thread.getId() is deprecated in newer JDKs, but threadId() doesn't exist in 8.
+    private static long allocatedBytes() {
+        try {
+            ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+            if (!(bean instanceof com.sun.management.ThreadMXBean)) {
+                return -1;
+            }
+            com.sun.management.ThreadMXBean sunBean = (com.sun.management.ThreadMXBean) bean;
+            boolean supported = sunBean.isThreadAllocatedMemorySupported() && sunBean.isThreadAllocatedMemoryEnabled();
+            return supported ? sunBean.getThreadAllocatedBytes(Thread.currentThread().getId()) : -1;
+        }
+        catch (LinkageError | UnsupportedOperationException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Undoes {@link MetricsRecorder#bind()}.
+     */
+    @FunctionalInterface
+    public interface Binding extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,299 @@
+package nl.jqno.equalsverifier.internal.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import nl.jqno.equalsverifier.internal.exceptions.EqualsVerifierInternalBugException;
+
+/**
+ * Remembers which classes were verified successfully, so they don't have to be verified again as long as neither the
+ * classes nor the configuration of the verification change.
+ *
+ * <p>
+ * A verification is identified by a fingerprint: a SHA-256 hash over the bytecode of the class, of its superclasses,
+ * of their enclosing classes and packages, and of the types of their fields, over the configuration, and over the
+ * versions of EqualsVerifier and the JDK. Fingerprints are stored as files in a directory, so they survive between
+ * test runs, and they're kept in memory, so repeated verifications within the same JVM don't have to touch the disk.
+ * When the version of EqualsVerifier is unknown, nothing is cached.
+ *
+ * <p>
+ * Only successful verifications are cached. A failure has to be reported with its cause, which can't be stored, so
+ * failing classes are verified again every time.
+ */
+public final class ResultCache {
+
+    /** The version of EqualsVerifier, or null if it's unknown because EqualsVerifier isn't loaded from its jar. */
+    public static final String EQUALSVERIFIER_VERSION = ResultCache.class.getPackage().getImplementationVersion();
+
+    private static final Set<String> VERIFIED = ConcurrentHashMap.newKeySet();
+    private static final ClassValue<byte[]> BYTECODE_HASHES = ClassCache.of(ResultCache::hashBytecode);
+    private static final ClassValue<byte[]> PACKAGE_INFO_HASHES = ClassCache.of(ResultCache::hashPackageInfo);
+    private static final byte[] UNAVAILABLE = new byte[0];
+
+    private final Path directory;
+
+    private ResultCache(Path directory) {
+        this.directory = directory.toAbsolutePath().normalize();
+    }
+
+    /**
+     * Factory method.
+     *
+     * @param directory The directory in which to store the fingerprints. It's created when it doesn't exist yet.
+     * @return A {@code ResultCache} that stores its fingerprints in {@code directory}.
+     */
+    public static ResultCache of(Path directory) {
+        Validations.validateNotNull(directory, "result cache directory is null.");
+        return new ResultCache(directory);
+    }
+
+    /**
+     * Starts building a fingerprint.
+     *
+     * @return A new, empty {@link Fingerprint}.
+     */
+    public static Fingerprint fingerprint() {
+        return new Fingerprint();
+    }
+
+    /**
+     * Forgets the fingerprints that are kept in memory. The fingerprints on disk are kept.
+     */
+    public static void clearMemory() {
+        VERIFIED.clear();
+    }
+
+    /**
+     * @param fingerprint The fingerprint of a verification.
+     * @return Whether a verification with the given fingerprint has succeeded before.
+     */
+    public boolean contains(String fingerprint) {
+        if (VERIFIED.contains(memoryKey(fingerprint))) {
+            return true;
+        }
+        if (Files.isRegularFile(directory.resolve(fingerprint))) {
+            VERIFIED.add(memoryKey(fingerprint));
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Records that the verification with the given fingerprint has succeeded.
+     *
+     * <p>
+     * Failing to write the fingerprint to disk doesn't fail the verification; the class will simply be verified again
+     * next time.
+     *
+     * @param fingerprint The fingerprint of the verification.
+     * @param type        The class that was verified. Its name is written into the file, to make the cache directory
+     *                        easier to inspect.
+     */
+    public void remember(String fingerprint, Class<?> type) {
+        VERIFIED.add(memoryKey(fingerprint));
+        try {
+            Files.createDirectories(directory);
+            Path temp = Files.createTempFile(directory, fingerprint, ".tmp");
+            Files.write(temp, type.getName().getBytes(StandardCharsets.UTF_8));
+            move(temp, directory.resolve(fingerprint));
+        }
+        catch (IOException | UnsupportedOperationException e) {
+            // The cache is best-effort.
+        }
+    }
+
+    private static void move(Path from, Path to) throws IOException {
+        try {
+            Files.move(from, to, StandardCopyOption.ATOMIC_MOVE);
+        }
+        catch (AtomicMoveNotSupportedException e) {
+            Files.move(from, to, StandardCopyOption.REPLACE_EXISTING);
+        }
+        finally {
+            Files.deleteIfExists(from);
+        }
+    }
+
+    private String memoryKey(String fingerprint) {
+        return directory + "/" + fingerprint;
+    }
+
+    private static byte[] hashBytecode(Class<?> type) {
+        ClassLoader cl = type.getClassLoader();
+        if (cl == null) {
+            // JDK classes only change along with the JDK version, which is part of every fingerprint.
+            return type.getName().getBytes(StandardCharsets.UTF_8);
+        }
+        return hashResource(cl, type.getName().replace('.', '/') + ".class");
+    }
+
+    private static byte[] hashPackageInfo(Class<?> type) {
+        ClassLoader cl = type.getClassLoader();
+        Package pkg = type.getPackage();
+        if (cl == null || pkg == null) {
+            return new byte[0];
+        }
+        // Most packages don't have a package-info, so unlike a missing class, a missing one doesn't make the
+        // fingerprint unavailable.
+        return hashResource(cl, pkg.getName().replace('.', '/') + "/package-info.class");
+    }
+
+    private static byte[] hashResource(ClassLoader cl, String name) {
+        try (InputStream in = cl.getResourceAsStream(name)) {
+            return in == null ? UNAVAILABLE : newDigest().digest(readFully(in));
+        }
+        catch (IOException e) {
+            return UNAVAILABLE;
+        }
+    }
+
+    private static byte[] readFully(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int read = in.read(buffer);
+        while (read >= 0) {
+            out.write(buffer, 0, read);
+            read = in.read(buffer);
+        }
+        return out.toByteArray();
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        }
+        catch (NoSuchAlgorithmException e) {
+            throw new EqualsVerifierInternalBugException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Builds the fingerprint of a verification.
+     */
+    public static final class Fingerprint {
+
+        private final MessageDigest digest = newDigest();
+        private boolean available = true;
+
+        private Fingerprint() {}
+
+        /**
+         * Includes a labeled value in the fingerprint, by its {@code toString()}. Make sure the value's string
+         * representation doesn't depend on iteration order.
+         *
+         * @param label A label for the value, so that different values with the same string representation don't
+         *                  collide.
+         * @param value The value to include.
+         * @return {@code this}, for easy method chaining.
+         */
+        public Fingerprint including(String label, Object value) {
+            digest.update((label + "=" + value + "\n").getBytes(StandardCharsets.UTF_8));
+            return this;
+        }
+
+        /**
+         * Includes a labeled value that must be known in the fingerprint, such as a version. If it isn't, there's no
+         * fingerprint.
+         *
+         * @param label A label for the value.
+         * @param value The value to include; if it's null, {@link #compute()} returns null.
+         * @return {@code this}, for easy method chaining.
+         */
+        public Fingerprint includingKnown(String label, Object value) {
+            if (value == null) {
+                available = false;
+            }
+            return including(label, value);
+        }
+
+        /**
+         * Includes the bytecode of the given class, of its superclasses, of their enclosing classes and package-infos,
+         * and of the types of their fields, including their type arguments, in the fingerprint.
+         *
+         * @param type The class to include; may be null.
+         * @return {@code this}, for easy method chaining.
+         */
+        public Fingerprint includingHierarchy(Class<?> type) {
+            for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+                for (Class<?> e = c; e != null; e = e.getEnclosingClass()) {
+                    includingBytecode(e);
+                }
+                digest.update(PACKAGE_INFO_HASHES.get(c));
+                for (Field f : c.getDeclaredFields()) {
+                    includingBytecode(f.getType());
+                    includingGenericType(f.getGenericType());
+                }
+            }
+            return this;
+        }
+
+        private void includingGenericType(Type type) {
+            if (type instanceof ParameterizedType) {
+                ParameterizedType p = (ParameterizedType) type;
+                includingGenericType(p.getRawType());
+                for (Type arg : p.getActualTypeArguments()) {
+                    includingGenericType(arg);
+                }
+            }
+            else if (type instanceof GenericArrayType) {
+                includingGenericType(((GenericArrayType) type).getGenericComponentType());
+            }
+            else if (type instanceof WildcardType) {
+                WildcardType w = (WildcardType) type;
+                for (Type bound : w.getUpperBounds()) {
+                    includingGenericType(bound);
+                }
+                for (Type bound : w.getLowerBounds()) {
+                    includingGenericType(bound);
+                }
+            }
+            else if (type instanceof Class) {
+                includingBytecode((Class<?>) type);
+            }
+            // Type variables are declared by the classes that are already included.
+        }
+
+        private void includingBytecode(Class<?> type) {
+            Class<?> c = type;
+            while (c.isArray()) {
+                c = c.getComponentType();
+            }
+            if (c.isPrimitive()) {
+                return;
+            }
+            byte[] hash = BYTECODE_HASHES.get(c);
+            if (hash == UNAVAILABLE) {
+                available = false;
+            }
+            digest.update(c.getName().getBytes(StandardCharsets.UTF_8));
+            digest.update(hash);
+        }
+
+        /**
+         * Completes the fingerprint.
+         *
+         * @return The fingerprint as a hexadecimal string, or {@code null} if the bytecode of one of the included
+         *             classes couldn't be found, for instance because it was generated at runtime, or if a value
+         *             given to {@link #includingKnown(String, Object)} was unknown.
+         */
+        public String compute() {
+            if (!available) {
+                return null;
+            }
+            including("java", System.getProperty("java.version"));
+            StringBuilder result = new StringBuilder();
+            for (byte b : digest.digest()) {
+                result.append(Integer.toHexString((b & 0xFF) | 0x100).substring(1));
+            }
+            return result.toString();
+        }
+    }
+}
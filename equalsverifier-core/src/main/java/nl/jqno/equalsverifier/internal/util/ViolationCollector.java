@@ -0,0 +1,62 @@
+package nl.jqno.equalsverifier.internal.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import nl.jqno.equalsverifier.EqualsVerifierReport.Violation;
+import nl.jqno.equalsverifier.ReportMode;
+import nl.jqno.equalsverifier.internal.exceptions.AssertionException;
+import nl.jqno.equalsverifier.internal.exceptions.MessagingException;
+
+/**
+ * Collects the problems that are found while verifying with {@link ReportMode#ALL_FAILURES}, so that the verification
+ * can continue after each of them.
+ */
+public final class ViolationCollector {
+
+    private final List<Violation> violations = Collections.synchronizedList(new ArrayList<>());
+
+    /**
+     * Runs the given check. If it fails an EqualsVerifier assertion, records the failure instead of throwing it. Any
+     * other exception is thrown as usual, because it means the verification can't continue.
+     *
+     * @param check  The name of the check.
+     * @param field  The name of the field that is checked; may be null.
+     * @param action The check to run.
+     */
+    public void collect(String check, String field, Runnable action) {
+        try {
+            action.run();
+        }
+        catch (AssertionException e) {
+            violations.add(new Violation(check, field, describe(e), e));
+        }
+    }
+
+    /**
+     * @return Whether no problems were found so far.
+     */
+    public boolean isEmpty() {
+        return violations.isEmpty();
+    }
+
+    /**
+     * @return A copy of the problems that were found so far, in the order in which they were found.
+     */
+    public List<Violation> getViolations() {
+        synchronized (violations) {
+            return new ArrayList<>(violations);
+        }
+    }
+
+    /**
+     * Returns the description of a problem, the way it's shown to the user.
+     *
+     * @param e The exception that signalled the problem.
+     * @return The description.
+     */
+    public static String describe(Throwable e) {
+        return e instanceof MessagingException ? ((MessagingException) e).getDescription() : e.getMessage();
+    }
+}
@@ -0,0 +1,33 @@
+package nl.jqno.equalsverifier.internal.versionspecific;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Note: this is a generic implementation for a multi-release jar class. See equalsverifier-21 submodule.
+ */
+public final class ExecutorHelper {
+
+    private static final String THREAD_NAME_PREFIX = "equalsverifier-";
+
+    private ExecutorHelper() {}
+
+    public static ExecutorService newExecutor() {
+        int threads = Runtime.getRuntime().availableProcessors();
+        return Executors.newFixedThreadPool(threads, new DaemonThreadFactory());
+    }
+
+    private static final class DaemonThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread t = new Thread(r, THREAD_NAME_PREFIX + counter.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package nl.jqno.equalsverifier.internal.versionspecific;
+
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+import nl.jqno.equalsverifier.internal.SuppressFBWarnings;
+
+/**
+ * Note: this is a generic implementation for a multi-release jar class. See equalsverifier-11 submodule.
+ */
+@SuppressFBWarnings(
+        value = "UC_USELESS_VOID_METHOD",
+        justification = "The actions are run directly here; the equalsverifier-11 version wraps them in JFR events.")
+public final class FlightRecorderHelper {
+
+    private FlightRecorderHelper() {}
+
+    public static void verification(Class<?> type, Runnable action) {
+        action.run();
+    }
+
+    public static void checker(Class<?> type, String checker, Runnable action) {
+        action.run();
+    }
+
+    public static boolean isFieldCheckEnabled() {
+        return false;
+    }
+
+    public static void fieldCheck(Class<?> type, String check, String field, Runnable action) {
+        action.run();
+    }
+
+    public static void annotationCache(Class<?> type, Runnable action) {
+        action.run();
+    }
+
+    public static boolean dynamicSubclasses(Class<?> superclass, int count, BooleanSupplier action) {
+        return action.getAsBoolean();
+    }
+
+    public static <T> T valueCreation(Object typeTag, Supplier<T> action) {
+        return action.get();
+    }
+}
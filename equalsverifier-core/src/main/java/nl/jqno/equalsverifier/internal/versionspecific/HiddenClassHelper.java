@@ -0,0 +1,23 @@
+package nl.jqno.equalsverifier.internal.versionspecific;
+
+import nl.jqno.equalsverifier.internal.exceptions.EqualsVerifierInternalBugException;
+
+/**
+ * Note: this is a generic implementation for a multi-release jar class. See equalsverifier-16 submodule.
+ */
+public final class HiddenClassHelper {
+
+    private HiddenClassHelper() {}
+
+    public static boolean isSupported() {
+        return false;
+    }
+
+    public static boolean isHidden(Class<?> type) {
+        return false;
+    }
+
+    public static Class<?> defineHiddenClass(Class<?> context, byte[] bytes) {
+        throw new EqualsVerifierInternalBugException("Hidden classes require Java 15 or later.");
+    }
+}
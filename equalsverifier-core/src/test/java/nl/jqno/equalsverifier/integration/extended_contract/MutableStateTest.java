@@ -72,6 +72,14 @@ class MutableStateTest {
         EqualsVerifier.forClass(ArrayMutableField.class).suppress(Warning.NONFINAL_FIELDS).verify();
     }
 
+    @Test
+    void fail_whenChangesToMutableFieldsCancelEachOtherOut() {
+        ExpectedException
+                .when(() -> EqualsVerifier.forClass(DifferenceOfMutableFields.class).verify())
+                .assertFailure()
+                .assertMessageContains(MUTABILITY, "a");
+    }
+
     static final class PrimitiveMutableField {
 
         private int second;
@@ -94,6 +102,31 @@ class MutableStateTest {
         }
     }
 
+    static final class DifferenceOfMutableFields {
+
+        private int a;
+        private int b;
+
+        DifferenceOfMutableFields(int a, int b) {
+            this.a = a;
+            this.b = b;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof DifferenceOfMutableFields)) {
+                return false;
+            }
+            DifferenceOfMutableFields other = (DifferenceOfMutableFields) obj;
+            return a - b == other.a - other.b;
+        }
+
+        @Override
+        public int hashCode() {
+            return a - b;
+        }
+    }
+
     static final class UnusedPrimitiveMutableField {
 
         private final int immutable;
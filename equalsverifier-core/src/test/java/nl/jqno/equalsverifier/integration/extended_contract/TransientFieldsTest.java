@@ -70,6 +70,14 @@ class TransientFieldsTest {
                 .assertMessageContains("Significant fields", "equals does not use j, or it is stateless");
     }
 
+    @Test
+    void fail_whenChangesToTransientFieldsCancelEachOtherOut() {
+        ExpectedException
+                .when(() -> EqualsVerifier.forClass(DifferenceOfTransientFields.class).verify())
+                .assertFailure()
+                .assertMessageContains("Transient field a should not be included in equals/hashCode contract");
+    }
+
     static class NotUsingFieldsWithTransientModifier {
 
         private final int i;
@@ -95,6 +103,31 @@ class TransientFieldsTest {
         }
     }
 
+    static final class DifferenceOfTransientFields {
+
+        private final transient int a;
+        private final transient int b;
+
+        DifferenceOfTransientFields(int a, int b) {
+            this.a = a;
+            this.b = b;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof DifferenceOfTransientFields)) {
+                return false;
+            }
+            DifferenceOfTransientFields other = (DifferenceOfTransientFields) obj;
+            return a - b == other.a - other.b;
+        }
+
+        @Override
+        public int hashCode() {
+            return a - b;
+        }
+    }
+
     static class UsingFieldsWithTransientModifier {
 
         private final int i;
@@ -68,6 +68,14 @@ class JpaLazyEntityTest {
         getterNotUsed_warningSuppressed(IncorrectOneToOneJpaLazyFieldContainer.class);
     }
 
+    @Test
+    void onlyTheBypassedGetterIsReported_givenSeveralLazyFields() {
+        ExpectedException
+                .when(() -> EqualsVerifier.forClass(IncorrectOneOfSeveralJpaLazyFieldsContainer.class).verify())
+                .assertFailure()
+                .assertMessageContains("direct reference to field second used in equals instead of getter getSecond()");
+    }
+
     @Test
     void oneToManyGetterNotUsed() {
         getterNotUsed(IncorrectOneToManyJpaLazyFieldContainer.class, "equals");
@@ -461,6 +469,47 @@ class JpaLazyEntityTest {
         }
     }
 
+    @Entity
+    static class IncorrectOneOfSeveralJpaLazyFieldsContainer {
+
+        @ManyToOne
+        private String first;
+
+        @ManyToOne
+        private String second;
+
+        @ManyToOne
+        private String third;
+
+        public String getFirst() {
+            return first;
+        }
+
+        public String getSecond() {
+            return second;
+        }
+
+        public String getThird() {
+            return third;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof IncorrectOneOfSeveralJpaLazyFieldsContainer)) {
+                return false;
+            }
+            IncorrectOneOfSeveralJpaLazyFieldsContainer other = (IncorrectOneOfSeveralJpaLazyFieldsContainer) obj;
+            return Objects.equals(getFirst(), other.getFirst())
+                    && Objects.equals(second, other.second)
+                    && Objects.equals(getThird(), other.getThird());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(getFirst(), getSecond(), getThird());
+        }
+    }
+
     @Entity
     static class IncorrectManyToManyJpaLazyFieldContainer {
 
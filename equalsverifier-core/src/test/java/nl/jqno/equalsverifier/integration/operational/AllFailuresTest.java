@@ -0,0 +1,111 @@
+package nl.jqno.equalsverifier.integration.operational;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+import nl.jqno.equalsverifier.EqualsVerifierReport;
+import nl.jqno.equalsverifier.EqualsVerifierReport.Violation;
+import nl.jqno.equalsverifier.ReportMode;
+import nl.jqno.equalsverifier.internal.exceptions.AssertionException;
+import nl.jqno.equalsverifier.testhelpers.types.FinalPoint;
+import nl.jqno.equalsverifier.testhelpers.types.Point;
+import org.junit.jupiter.api.Test;
+
+class AllFailuresTest {
+
+    @Test
+    void succeed_whenClassIsValid() {
+        EqualsVerifierReport report = EqualsVerifier.forClass(FinalPoint.class).report(ReportMode.ALL_FAILURES);
+
+        assertThat(report.isSuccessful()).isTrue();
+        assertThat(report.getMessage()).isEmpty();
+        assertThat(report.getViolations()).isEmpty();
+    }
+
+    @Test
+    void reportOnlyTheFirstProblem_whenModeIsFirstFailure() {
+        EqualsVerifierReport report = EqualsVerifier.forClass(SeveralProblems.class).report(ReportMode.FIRST_FAILURE);
+
+        assertThat(report.getViolations()).hasSize(1);
+        assertThat(report.getViolations().get(0).getCheck()).isNull();
+        assertThat(report.getMessage()).startsWith("EqualsVerifier found a problem in class");
+    }
+
+    @Test
+    void reportAllProblems_whenModeIsAllFailures() {
+        EqualsVerifierReport report = EqualsVerifier.forClass(SeveralProblems.class).report(ReportMode.ALL_FAILURES);
+        List<Violation> violations = report.getViolations();
+
+        assertThat(report.isSuccessful()).isFalse();
+        assertThat(violations.size()).isGreaterThan(1);
+        assertThat(violations.stream().map(Violation::getField).collect(Collectors.toList())).contains("b", "c");
+        assertThat(violations).allMatch(v -> v.getCause() instanceof AssertionException);
+        assertThat(report.getMessage())
+                .startsWith(
+                    "EqualsVerifier found " + violations.size() + " problems in class " + SeveralProblems.class.getName())
+                .contains("-> " + violations.get(0).getMessage(), "-> " + violations.get(1).getMessage());
+        assertThat(report.getCause()).isSameAs(violations.get(0).getCause());
+    }
+
+    @Test
+    void firstViolationIsTheSameAsInFirstFailureMode() {
+        EqualsVerifierReport first = EqualsVerifier.forClass(SeveralProblems.class).report();
+        EqualsVerifierReport all = EqualsVerifier.forClass(SeveralProblems.class).report(ReportMode.ALL_FAILURES);
+
+        assertThat(first.getMessage()).contains("-> " + all.getViolations().get(0).getMessage());
+    }
+
+    @Test
+    void continueWithOtherCheckers_whenACheckerFails() {
+        EqualsVerifierReport report = EqualsVerifier.forClass(Point.class).report(ReportMode.ALL_FAILURES);
+
+        assertThat(report.getViolations()).extracting(Violation::getCheck).contains("HierarchyChecker");
+    }
+
+    @Test
+    void reportSingleProblemInTheUsualWay_whenThereIsOnlyOne() {
+        EqualsVerifierReport first = EqualsVerifier.forClass(Point.class).report();
+        EqualsVerifierReport all = EqualsVerifier.forClass(Point.class).report(ReportMode.ALL_FAILURES);
+
+        assertThat(all.getViolations()).hasSize(1);
+        assertThat(all.getMessage()).isEqualTo(first.getMessage());
+    }
+
+    @Test
+    void violationsAreDescribed() {
+        Violation violation = new Violation("SignificantFieldCheck", "x", "Significant fields: oops", null);
+        assertThat(violation.toString()).isEqualTo("SignificantFieldCheck on x: Significant fields: oops");
+        assertThat(new Violation(null, null, "oops", null).toString()).isEqualTo("oops");
+    }
+
+    static final class SeveralProblems {
+
+        private final int a;
+        private final int b;
+        private final int[] c;
+
+        SeveralProblems(int a, int b, int[] c) {
+            this.a = a;
+            this.b = b;
+            this.c = c;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof SeveralProblems)) {
+                return false;
+            }
+            SeveralProblems other = (SeveralProblems) obj;
+            return a == other.a && c == other.c;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(a, b);
+        }
+    }
+}
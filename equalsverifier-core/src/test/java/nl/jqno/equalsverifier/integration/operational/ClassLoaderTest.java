@@ -0,0 +1,50 @@
+package nl.jqno.equalsverifier.integration.operational;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.net.URLClassLoader;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+import nl.jqno.equalsverifier.Warning;
+import nl.jqno.equalsverifier.testhelpers.types.Point;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class ClassLoaderTest {
+
+    @AfterEach
+    void clearCaches() {
+        EqualsVerifier.clearCaches();
+    }
+
+    @Test
+    void classLoaderIsCollected_whenItIsDiscardedAfterVerification() throws Exception {
+        WeakReference<ClassLoader> loader = verifyInDiscardableClassLoader();
+
+        for (int i = 0; i < 100 && loader.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertThat(loader.get()).isNull();
+    }
+
+    @Test
+    void verificationSucceedsAgain_whenCachesAreCleared() {
+        EqualsVerifier.forClass(Point.class).suppress(Warning.STRICT_INHERITANCE).verify();
+        EqualsVerifier.clearCaches();
+        EqualsVerifier.forClass(Point.class).suppress(Warning.STRICT_INHERITANCE).verify();
+    }
+
+    private WeakReference<ClassLoader> verifyInDiscardableClassLoader() throws Exception {
+        URL classes = Point.class.getProtectionDomain().getCodeSource().getLocation();
+        try (URLClassLoader loader = new URLClassLoader(new URL[] { classes }, null)) {
+            Class<?> type = loader.loadClass(Point.class.getName());
+            assertThat(type).isNotEqualTo(Point.class);
+
+            EqualsVerifier.forClass(type).suppress(Warning.STRICT_INHERITANCE).verify();
+            return new WeakReference<>(loader);
+        }
+    }
+}
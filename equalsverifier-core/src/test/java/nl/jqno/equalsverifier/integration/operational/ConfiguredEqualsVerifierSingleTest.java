@@ -143,6 +143,30 @@ class ConfiguredEqualsVerifierSingleTest {
                 .assertMessageContains("Recursive datastructure");
     }
 
+    @Test
+    void succeed_whenPrefabValuesAreAddedToConfigurationAfterVerifyingAnotherClass() {
+        ConfiguredEqualsVerifier ev = EqualsVerifier.configure();
+        ev.forClass(PointContainer.class).suppress(Warning.STRICT_INHERITANCE).verify();
+
+        ev
+                .withPrefabValues(
+                    RecursiveType.class,
+                    new RecursiveType(null),
+                    new RecursiveType(new RecursiveType(null)))
+                .forClass(RecursiveTypeContainer.class)
+                .verify();
+    }
+
+    @Test
+    void succeed_whenConfigurationIsReusedAfterClearingItsCache() {
+        ConfiguredEqualsVerifier ev = EqualsVerifier.configure().suppress(Warning.STRICT_INHERITANCE);
+        ev.forClass(PointContainer.class).verify();
+
+        ev.clearCache();
+
+        ev.forClass(PointContainer.class).verify();
+    }
+
     @Test
     void succeed_whenFieldsAreNonfinalAndClassIsNonfinal_givenTwoWarningsAreSuppressedButInDifferentPlaces() {
         EqualsVerifier
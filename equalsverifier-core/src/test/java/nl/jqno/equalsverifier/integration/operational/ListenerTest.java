@@ -0,0 +1,263 @@
+package nl.jqno.equalsverifier.integration.operational;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+import nl.jqno.equalsverifier.EqualsVerifierListener;
+import nl.jqno.equalsverifier.EqualsVerifierReport;
+import nl.jqno.equalsverifier.Warning;
+import nl.jqno.equalsverifier.internal.testhelpers.ExpectedException;
+import nl.jqno.equalsverifier.testhelpers.types.FinalPoint;
+import nl.jqno.equalsverifier.testhelpers.types.Point;
+import nl.jqno.equalsverifier.testhelpers.types.PointContainer;
+import org.junit.jupiter.api.Test;
+
+class ListenerTest {
+
+    private final RecordingListener listener = new RecordingListener();
+
+    @Test
+    void listenerIsNotifiedOfEachPhase_whenVerificationSucceeds() {
+        EqualsVerifier.forClass(FinalPoint.class).withListener(listener).verify();
+
+        assertThat(listener.events.get(0)).isEqualTo("verificationStarted FinalPoint");
+        assertThat(listener.last()).isEqualTo("verificationFinished FinalPoint true");
+        assertThat(listener.events)
+                .contains(
+                    "checkerStarted FinalPoint SignatureChecker",
+                    "checkerFinished FinalPoint SignatureChecker",
+                    "checkerStarted FinalPoint FieldsChecker",
+                    "fieldCheckStarted FinalPoint SignificantFieldCheck x",
+                    "fieldCheckFinished FinalPoint SignificantFieldCheck x",
+                    "fieldCheckFinished FinalPoint SignificantFieldCheck y")
+                .anyMatch(e -> e.startsWith("valueGenerated FinalPoint "))
+                .noneMatch(e -> e.startsWith("verificationFailed"));
+    }
+
+    @Test
+    void listenerIsNotifiedOfFailure_whenVerifyThrows() {
+        ExpectedException
+                .when(() -> EqualsVerifier.forClass(Point.class).withListener(listener).verify())
+                .assertFailure();
+
+        assertThat(listener.events)
+                .endsWith("verificationFailed Point", "verificationFinished Point false")
+                .contains("checkerFinished Point HierarchyChecker");
+        assertThat(listener.failureMessage).startsWith("EqualsVerifier found a problem in class");
+    }
+
+    @Test
+    void listenerIsNotNotifiedOfFailure_whenItThrowsAfterSuccess() {
+        RecordingListener throwing = new RecordingListener() {
+            @Override
+            public void verificationFinished(Class<?> type, boolean successful, Duration elapsed) {
+                super.verificationFinished(type, successful, elapsed);
+                throw new IllegalStateException("listener failed");
+            }
+        };
+
+        ExpectedException
+                .when(() -> EqualsVerifier.forClass(FinalPoint.class).withListener(throwing).verify())
+                .assertThrows(IllegalStateException.class)
+                .assertMessageContains("listener failed");
+        assertThat(throwing.events).noneMatch(e -> e.startsWith("verificationFailed"));
+        assertThat(throwing.last()).isEqualTo("verificationFinished FinalPoint true");
+    }
+
+    @Test
+    void listenerExceptionIsPropagatedUnwrapped_whenVerifyingInParallel() {
+        ExpectedException
+                .when(
+                    () -> EqualsVerifier
+                            .forClasses(FinalPoint.class, PointContainer.class)
+                            .parallel()
+                            .suppress(Warning.STRICT_INHERITANCE)
+                            .withListener(new EqualsVerifierListener() {
+                                @Override
+                                public void verificationFinished(Class<?> type, boolean successful, Duration elapsed) {
+                                    throw new IllegalStateException("listener failed");
+                                }
+                            })
+                            .verify())
+                .assertThrows(IllegalStateException.class)
+                .assertMessageContains("listener failed");
+    }
+
+    @Test
+    void remainingVerificationsAreCancelled_whenOneFailsWithAnException() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CountDownLatch neverReleased = new CountDownLatch(1);
+        try {
+            ExpectedException
+                    .when(
+                        () -> EqualsVerifier
+                                .forClasses(FinalPoint.class, PointContainer.class)
+                                .withExecutor(executor)
+                                .suppress(Warning.STRICT_INHERITANCE)
+                                .withListener(new EqualsVerifierListener() {
+                                    @Override
+                                    public void verificationStarted(Class<?> type) {
+                                        if (type.equals(FinalPoint.class)) {
+                                            throw new IllegalStateException("listener failed");
+                                        }
+                                        try {
+                                            neverReleased.await();
+                                        }
+                                        catch (InterruptedException e) {
+                                            Thread.currentThread().interrupt();
+                                        }
+                                    }
+                                })
+                                .verify())
+                    .assertThrows(IllegalStateException.class)
+                    .assertMessageContains("listener failed");
+        }
+        finally {
+            executor.shutdown();
+        }
+
+        // PointContainer's verification blocks until it's interrupted, so the pool only terminates if it was cancelled
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void listenerIsNotifiedOfFailure_whenReporting() {
+        EqualsVerifierReport report = EqualsVerifier.forClass(Point.class).withListener(listener).report();
+
+        assertThat(listener.failureMessage).isEqualTo(report.getMessage());
+        assertThat(listener.last()).isEqualTo("verificationFinished Point false");
+    }
+
+    @Test
+    void durationsAreReported() {
+        EqualsVerifier.forClass(FinalPoint.class).withListener(listener).verify();
+        assertThat(listener.durations).isNotEmpty().allMatch(d -> !d.isNegative());
+    }
+
+    @Test
+    void allListenersAreNotified_inOrderOfRegistration() {
+        List<String> order = Collections.synchronizedList(new ArrayList<>());
+        EqualsVerifier
+                .forClass(FinalPoint.class)
+                .withListener(new EqualsVerifierListener() {
+                    @Override
+                    public void verificationStarted(Class<?> type) {
+                        order.add("first");
+                    }
+                })
+                .withListener(new EqualsVerifierListener() {
+                    @Override
+                    public void verificationStarted(Class<?> type) {
+                        order.add("second");
+                    }
+                })
+                .verify();
+
+        assertThat(order).containsExactly("first", "second");
+    }
+
+    @Test
+    void listenerIsPassedOn_fromConfiguredEqualsVerifier() {
+        EqualsVerifier
+                .configure()
+                .suppress(Warning.STRICT_INHERITANCE)
+                .withListener(listener)
+                .forClasses(FinalPoint.class, PointContainer.class)
+                .verify();
+
+        assertThat(listener.events)
+                .contains("verificationFinished FinalPoint true", "verificationFinished PointContainer true");
+    }
+
+    @Test
+    void listenerIsNotifiedFromSeveralThreads_whenVerifyingInParallel() {
+        EqualsVerifier
+                .forClasses(FinalPoint.class, PointContainer.class)
+                .parallel()
+                .suppress(Warning.STRICT_INHERITANCE)
+                .withListener(listener)
+                .verify();
+
+        List<String> finished = listener.events
+                .stream()
+                .filter(e -> e.startsWith("verificationFinished"))
+                .collect(Collectors.toList());
+        assertThat(finished)
+                .containsExactlyInAnyOrder(
+                    "verificationFinished FinalPoint true",
+                    "verificationFinished PointContainer true");
+    }
+
+    @Test
+    void nullListenerIsRejected() {
+        ExpectedException
+                .when(() -> EqualsVerifier.forClass(FinalPoint.class).withListener(null))
+                .assertThrows(NullPointerException.class)
+                .assertMessageContains("listener is null");
+    }
+
+    private static class RecordingListener implements EqualsVerifierListener {
+
+        private final List<String> events = Collections.synchronizedList(new ArrayList<>());
+        private final List<Duration> durations = Collections.synchronizedList(new ArrayList<>());
+        private volatile String failureMessage;
+
+        @Override
+        public void verificationStarted(Class<?> type) {
+            events.add("verificationStarted " + type.getSimpleName());
+        }
+
+        @Override
+        public void verificationFinished(Class<?> type, boolean successful, Duration elapsed) {
+            events.add("verificationFinished " + type.getSimpleName() + " " + successful);
+            durations.add(elapsed);
+        }
+
+        @Override
+        public void verificationFailed(Class<?> type, String message, Throwable cause) {
+            events.add("verificationFailed " + type.getSimpleName());
+            failureMessage = message;
+        }
+
+        @Override
+        public void checkerStarted(Class<?> type, String checker) {
+            events.add("checkerStarted " + type.getSimpleName() + " " + checker);
+        }
+
+        @Override
+        public void checkerFinished(Class<?> type, String checker, Duration elapsed) {
+            events.add("checkerFinished " + type.getSimpleName() + " " + checker);
+            durations.add(elapsed);
+        }
+
+        @Override
+        public void fieldCheckStarted(Class<?> type, String check, String field) {
+            events.add("fieldCheckStarted " + type.getSimpleName() + " " + check + " " + field);
+        }
+
+        @Override
+        public void fieldCheckFinished(Class<?> type, String check, String field, Duration elapsed) {
+            events.add("fieldCheckFinished " + type.getSimpleName() + " " + check + " " + field);
+            durations.add(elapsed);
+        }
+
+        @Override
+        public void valueGenerated(Class<?> type, Class<?> valueType) {
+            events.add("valueGenerated " + type.getSimpleName() + " " + valueType.getSimpleName());
+        }
+
+        private String last() {
+            return events.get(events.size() - 1);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package nl.jqno.equalsverifier.integration.operational;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+import nl.jqno.equalsverifier.EqualsVerifierMetrics;
+import nl.jqno.equalsverifier.EqualsVerifierReport;
+import nl.jqno.equalsverifier.testhelpers.types.FinalPoint;
+import nl.jqno.equalsverifier.testhelpers.types.Point;
+import nl.jqno.equalsverifier.testhelpers.types.PointContainer;
+import org.junit.jupiter.api.Test;
+
+class MetricsTest {
+
+    @Test
+    void metricsAreAbsent_whenNotRequested() {
+        EqualsVerifierReport report = EqualsVerifier.forClass(FinalPoint.class).report();
+        assertThat(report.getMetrics()).isNull();
+    }
+
+    @Test
+    void metricsAreCollected_whenRequested() {
+        EqualsVerifierReport report = EqualsVerifier.forClass(FinalPoint.class).withMetrics().report();
+        EqualsVerifierMetrics metrics = report.getMetrics();
+
+        assertThat(report.isSuccessful()).isTrue();
+        assertThat(metrics.getWallTime()).isPositive();
+        assertThat(metrics.getCheckerTimes())
+                .containsKeys(
+                    "SignatureChecker",
+                    "NullChecker",
+                    "HierarchyChecker",
+                    "FieldsChecker",
+                    "FieldsChecker.SignificantFieldCheck");
+        assertThat(metrics.getCheckerTimes().get("FieldsChecker"))
+                .isGreaterThanOrEqualTo(metrics.getCheckerTimes().get("FieldsChecker.SignificantFieldCheck"));
+        assertThat(metrics.getSubjectsCreated()).isPositive();
+        assertThat(metrics.getValuesGenerated()).isPositive();
+        assertThat(metrics.getFieldWrites()).isPositive();
+        assertThat(metrics.getDynamicSubclassesGenerated()).isNotNegative();
+        assertThat(metrics.getAllocatedBytes()).isNotZero();
+    }
+
+    @Test
+    void metricsAreCollected_whenVerificationFails() {
+        EqualsVerifierReport report = EqualsVerifier.forClass(Point.class).withMetrics().report();
+
+        assertThat(report.isSuccessful()).isFalse();
+        assertThat(report.getMetrics().getSubjectsCreated()).isPositive();
+    }
+
+    @Test
+    void metricsCanBeAggregated_whenVerifyingSeveralClasses() {
+        List<EqualsVerifierReport> reports =
+                EqualsVerifier.forClasses(FinalPoint.class, PointContainer.class).withMetrics().report();
+        EqualsVerifierMetrics first = reports.get(0).getMetrics();
+        EqualsVerifierMetrics second = reports.get(1).getMetrics();
+
+        EqualsVerifierMetrics aggregate = EqualsVerifierMetrics.aggregate(reports);
+
+        assertThat(aggregate.getWallTime()).isEqualTo(first.getWallTime().plus(second.getWallTime()));
+        assertThat(aggregate.getSubjectsCreated()).isEqualTo(first.getSubjectsCreated() + second.getSubjectsCreated());
+        assertThat(aggregate.getFieldWrites()).isEqualTo(first.getFieldWrites() + second.getFieldWrites());
+        assertThat(aggregate.getCheckerTimes().get("SignatureChecker"))
+                .isEqualTo(
+                    first
+                            .getCheckerTimes()
+                            .get("SignatureChecker")
+                            .plus(second.getCheckerTimes().get("SignatureChecker")));
+    }
+
+    @Test
+    void aggregateIsEmpty_whenNoMetricsWereCollected() {
+        List<EqualsVerifierReport> reports = EqualsVerifier.forClasses(FinalPoint.class, PointContainer.class).report();
+
+        EqualsVerifierMetrics aggregate = EqualsVerifierMetrics.aggregate(reports);
+
+        assertThat(aggregate.getWallTime()).isEqualTo(Duration.ZERO);
+        assertThat(aggregate.getCheckerTimes()).isEmpty();
+        assertThat(aggregate.getAllocatedBytes()).isEqualTo(-1);
+    }
+
+    @Test
+    void metricsArePassedOn_fromConfiguredEqualsVerifier() {
+        EqualsVerifierReport report = EqualsVerifier.configure().withMetrics().forClass(FinalPoint.class).report();
+        assertThat(report.getMetrics()).isNotNull();
+    }
+}
@@ -4,6 +4,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import nl.jqno.equalsverifier.EqualsVerifier;
 import nl.jqno.equalsverifier.EqualsVerifierReport;
@@ -269,6 +271,67 @@ class MultipleTypeEqualsVerifierTest {
         assertUnsuccessful(reports.get(3), IncorrectN.class, "Reflexivity: object does not equal itself:");
     }
 
+    @Test
+    void succeed_whenVerifyingSeveralCorrectClassesInParallel() {
+        EqualsVerifier.forClasses(A.class, B.class, C.class).parallel().verify();
+    }
+
+    @Test
+    void succeed_whenVerifyingACorrectPackageRecursivelyInParallel() {
+        EqualsVerifier.forPackage(CORRECT_PACKAGE, true).parallel().verify();
+    }
+
+    @Test
+    void fail_whenVerifyingAPackageWithFourIncorrectClassesInParallel() {
+        ExpectedException
+                .when(() -> EqualsVerifier.forPackage(INCORRECT_PACKAGE, true).parallel().verify())
+                .assertFailure()
+                .assertMessageContains(
+                    "EqualsVerifier found a problem in 4 classes.",
+                    "* " + INCORRECT_M,
+                    "* " + INCORRECT_N,
+                    "* " + INCORRECT_O,
+                    "* " + INCORRECT_P);
+    }
+
+    @Test
+    void fail_whenReportingOnTwoIncorrectClassesInParallel_thenReportsAreInTheOriginalOrder() {
+        List<EqualsVerifierReport> reports =
+                EqualsVerifier.forClasses(A.class, IncorrectM.class, C.class, IncorrectN.class).parallel().report();
+
+        assertThat(reports.size()).isEqualTo(4);
+        assertSuccessful(reports.get(0), A.class);
+        assertSuccessful(reports.get(2), C.class);
+        assertUnsuccessful(reports.get(1), IncorrectM.class, "Subclass: equals is not final.");
+        assertUnsuccessful(reports.get(3), IncorrectN.class, "Reflexivity: object does not equal itself:");
+    }
+
+    @Test
+    void succeed_whenReportingWithAGivenExecutor_thenExecutorIsNotShutDown() {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            List<EqualsVerifierReport> reports =
+                    EqualsVerifier.forClasses(A.class, B.class, C.class).withExecutor(executor).report();
+
+            assertThat(reports.size()).isEqualTo(3);
+            assertSuccessful(reports.get(0), A.class);
+            assertSuccessful(reports.get(1), B.class);
+            assertSuccessful(reports.get(2), C.class);
+            assertThat(executor.isShutdown()).isFalse();
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void fail_whenGivenExecutorIsNull() {
+        ExpectedException
+                .when(() -> EqualsVerifier.forClasses(A.class, B.class).withExecutor(null))
+                .assertThrows(NullPointerException.class)
+                .assertMessageContains("executorService is null.");
+    }
+
     private void assertSuccessful(EqualsVerifierReport report, Class<?> type) {
         assertThat(report.isSuccessful()).isTrue();
         assertThat(report.getType()).isEqualTo(type);
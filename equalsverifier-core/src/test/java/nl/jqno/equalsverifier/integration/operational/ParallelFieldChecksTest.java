@@ -0,0 +1,150 @@
+package nl.jqno.equalsverifier.integration.operational;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+import nl.jqno.equalsverifier.EqualsVerifierReport;
+import nl.jqno.equalsverifier.testhelpers.types.FinalPoint;
+import nl.jqno.equalsverifier.testhelpers.types.Point;
+import org.junit.jupiter.api.Test;
+
+class ParallelFieldChecksTest {
+
+    @Test
+    void succeed_whenClassIsValid() {
+        EqualsVerifier.forClass(ManyFields.class).withParallelFieldChecks().verify();
+    }
+
+    @Test
+    void succeed_whenConfiguredForSeveralClasses() {
+        EqualsVerifier
+                .configure()
+                .withParallelFieldChecks()
+                .forClasses(FinalPoint.class, ManyFields.class)
+                .parallel()
+                .verify();
+    }
+
+    @Test
+    void failWithSameMessageAsSequentialMode_whenSeveralFieldsHaveProblems() {
+        assertSameMessage(SeveralProblems.class);
+    }
+
+    @Test
+    void failWithSameMessageAsSequentialMode_whenNullIsNotHandled() {
+        assertSameMessage(NullProblem.class);
+    }
+
+    @Test
+    void failWithSameMessageAsSequentialMode_whenProblemIsNotInAField() {
+        assertSameMessage(Point.class);
+    }
+
+    private static void assertSameMessage(Class<?> type) {
+        EqualsVerifierReport sequential = EqualsVerifier.forClass(type).report();
+        EqualsVerifierReport parallel = EqualsVerifier.forClass(type).withParallelFieldChecks().report();
+
+        assertThat(sequential.isSuccessful()).isFalse();
+        assertThat(parallel.getMessage()).isEqualTo(sequential.getMessage());
+    }
+
+    static final class ManyFields {
+
+        private final int a;
+        private final long b;
+        private final String c;
+        private final double d;
+        private final Object e;
+        private final int[] f;
+        private final Integer g;
+
+        ManyFields(int a, long b, String c, double d, Object e, int[] f, Integer g) {
+            this.a = a;
+            this.b = b;
+            this.c = c;
+            this.d = d;
+            this.e = e;
+            this.f = f;
+            this.g = g;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof ManyFields)) {
+                return false;
+            }
+            ManyFields other = (ManyFields) obj;
+            return a == other.a
+                    && b == other.b
+                    && Objects.equals(c, other.c)
+                    && Double.compare(d, other.d) == 0
+                    && Objects.equals(e, other.e)
+                    && Arrays.equals(f, other.f)
+                    && Objects.equals(g, other.g);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(a, b, c, d, e, Arrays.hashCode(f), g);
+        }
+    }
+
+    static final class SeveralProblems {
+
+        private final int a;
+        private final int b;
+        private final int[] c;
+        private final int d;
+
+        SeveralProblems(int a, int b, int[] c, int d) {
+            this.a = a;
+            this.b = b;
+            this.c = c;
+            this.d = d;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof SeveralProblems)) {
+                return false;
+            }
+            SeveralProblems other = (SeveralProblems) obj;
+            return a == other.a && c == other.c;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(a, b, d);
+        }
+    }
+
+    static final class NullProblem {
+
+        private final int a;
+        private final String b;
+        private final String c;
+
+        NullProblem(int a, String b, String c) {
+            this.a = a;
+            this.b = b;
+            this.c = c;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof NullProblem)) {
+                return false;
+            }
+            NullProblem other = (NullProblem) obj;
+            return a == other.a && Objects.equals(b, other.b) && c.equals(other.c);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(a, b, c);
+        }
+    }
+}
@@ -45,20 +45,9 @@ class ReportTest {
             assertThat(report.getMessage()).isEqualTo(e.getMessage());
             assertThat(report.getCause().getClass()).isEqualTo(e.getCause().getClass());
 
-            StackTraceElement[] verified = e.getCause().getStackTrace();
-            StackTraceElement[] reported = report.getCause().getStackTrace();
-            // Implementation detail:
-            // `report` has 1 extra stack frame because it delegates to an overload.
-            assertThat(reported.length).isEqualTo(verified.length + 1);
-
-            for (int i = 0; i < verified.length; i++) {
-                if (!verified[i].getMethodName().equals("verify")) {
-                    // When the `verify` method is reached, the stacktraces start to diverge.
-                    break;
-                }
-
-                assertThat(reported[i]).isEqualTo(verified[i]);
-            }
+            // EqualsVerifier's own exceptions don't capture a stack trace.
+            assertThat(e.getCause().getStackTrace()).isEmpty();
+            assertThat(report.getCause().getStackTrace()).isEmpty();
         }
     }
 }
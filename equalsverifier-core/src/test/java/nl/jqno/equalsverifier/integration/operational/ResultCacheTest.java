@@ -0,0 +1,112 @@
+package nl.jqno.equalsverifier.integration.operational;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+import nl.jqno.equalsverifier.internal.testhelpers.ExpectedException;
+import nl.jqno.equalsverifier.testhelpers.types.FinalPoint;
+import nl.jqno.equalsverifier.testhelpers.types.Point;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ResultCacheTest {
+
+    @TempDir
+    Path cacheDir;
+
+    @BeforeEach
+    void setUp() {
+        CountingEquals.CALLS.set(0);
+    }
+
+    @Test
+    void verifyAgain_whenVersionOfEqualsVerifierIsUnknown() {
+        // The tests run EqualsVerifier from a directory of classes, which has no version.
+        assertThat(ResultCacheTest.class.getPackage().getImplementationVersion()).isNull();
+
+        EqualsVerifier.forClass(CountingEquals.class).withResultCache(cacheDir).verify();
+        CountingEquals.CALLS.set(0);
+
+        EqualsVerifier.forClass(CountingEquals.class).withResultCache(cacheDir).verify();
+        assertThat(CountingEquals.CALLS.get()).isPositive();
+        assertThat(filesIn(cacheDir)).isEmpty();
+    }
+
+    @Test
+    void verifyAgain_whenFieldnameToGetterConverterIsUsed() {
+        EqualsVerifier
+                .forClass(CountingEquals.class)
+                .withFieldnameToGetterConverter(fn -> fn)
+                .withResultCache(cacheDir)
+                .verify();
+        CountingEquals.CALLS.set(0);
+
+        EqualsVerifier
+                .forClass(CountingEquals.class)
+                .withFieldnameToGetterConverter(fn -> fn)
+                .withResultCache(cacheDir)
+                .verify();
+        assertThat(CountingEquals.CALLS.get()).isPositive();
+        assertThat(filesIn(cacheDir)).isEmpty();
+    }
+
+    @Test
+    void failuresAreNotCached() {
+        for (int i = 0; i < 2; i++) {
+            ExpectedException
+                    .when(() -> EqualsVerifier.forClass(Point.class).withResultCache(cacheDir).verify())
+                    .assertFailure()
+                    .assertMessageContains("Subclass");
+        }
+        assertThat(filesIn(cacheDir)).isEmpty();
+    }
+
+    @Test
+    void fail_whenDirectoryIsNull() {
+        ExpectedException
+                .when(() -> EqualsVerifier.forClass(FinalPoint.class).withResultCache(null))
+                .assertThrows(NullPointerException.class)
+                .assertMessageContains("result cache directory is null");
+    }
+
+    private static List<Path> filesIn(Path dir) {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(Files::isRegularFile).collect(Collectors.toList());
+        }
+        catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static final class CountingEquals {
+
+        static final AtomicInteger CALLS = new AtomicInteger();
+
+        private final int x;
+
+        CountingEquals(int x) {
+            this.x = x;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            CALLS.incrementAndGet();
+            return obj instanceof CountingEquals && ((CountingEquals) obj).x == x;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(x);
+        }
+    }
+}
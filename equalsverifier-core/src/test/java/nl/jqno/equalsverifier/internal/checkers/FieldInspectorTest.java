@@ -0,0 +1,46 @@
+package nl.jqno.equalsverifier.internal.checkers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import nl.jqno.equalsverifier.internal.checkers.fieldchecks.FieldCheck;
+import nl.jqno.equalsverifier.internal.instantiation.vintage.FactoryCache;
+import nl.jqno.equalsverifier.internal.reflection.FieldCache;
+import nl.jqno.equalsverifier.internal.util.ConfigurationHelper;
+import nl.jqno.equalsverifier.internal.util.Context;
+import org.junit.jupiter.api.Test;
+import org.objenesis.ObjenesisStd;
+
+class FieldInspectorTest {
+
+    private final Context<EightFields> context = new Context<>(
+            ConfigurationHelper.emptyConfiguration(EightFields.class),
+            new FactoryCache(),
+            null,
+            new FieldCache(),
+            new ObjenesisStd());
+    private final FieldInspector<EightFields> inspector = new FieldInspector<>(context, "Test");
+
+    @Test
+    void checksEachFieldInDeclarationOrder() {
+        List<String> executed = new ArrayList<>();
+        inspector.check((FieldCheck<EightFields>) p -> executed.add(p.getName()));
+
+        assertThat(executed).containsExactly("a", "b", "c", "d", "e", "f", "g", "h");
+    }
+
+    @SuppressWarnings("unused")
+    static final class EightFields {
+
+        private int a;
+        private int b;
+        private int c;
+        private int d;
+        private int e;
+        private int f;
+        private int g;
+        private int h;
+    }
+}
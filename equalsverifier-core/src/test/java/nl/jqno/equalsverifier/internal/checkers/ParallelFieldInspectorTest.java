@@ -0,0 +1,125 @@
+package nl.jqno.equalsverifier.internal.checkers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+
+import nl.jqno.equalsverifier.internal.checkers.fieldchecks.FieldCheck;
+import nl.jqno.equalsverifier.internal.instantiation.SubjectCreator;
+import nl.jqno.equalsverifier.internal.instantiation.vintage.FactoryCache;
+import nl.jqno.equalsverifier.internal.reflection.FieldCache;
+import nl.jqno.equalsverifier.internal.testhelpers.ExpectedException;
+import nl.jqno.equalsverifier.internal.util.ConfigurationHelper;
+import nl.jqno.equalsverifier.internal.util.Context;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.objenesis.ObjenesisStd;
+
+class ParallelFieldInspectorTest {
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+    private final Context<SixFields> context = new Context<>(ConfigurationHelper.emptyConfiguration(SixFields.class),
+            new FactoryCache(),
+            null,
+            new FieldCache(),
+            new ObjenesisStd(),
+            true,
+            null);
+    private final ParallelFieldInspector<SixFields> inspector = new ParallelFieldInspector<>(context, "Test", pool);
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    void appliesEachCheckToEachField() {
+        Set<String> seen = ConcurrentHashMap.newKeySet();
+        inspector
+                .check(
+                    c -> Arrays
+                            .asList(p -> seen.add("first " + p.getName()), p -> seen.add("second " + p.getName())));
+
+        assertThat(seen).hasSize(12).contains("first a", "second f");
+    }
+
+    @Test
+    void rethrowsFailureOfEarliestCheck_evenIfItsFieldComesLater() {
+        ExpectedException
+                .when(
+                    () -> inspector
+                            .check(
+                                c -> Arrays
+                                        .asList(
+                                            failOn("e", "first check on e"),
+                                            failOn("a", "second check on a"))))
+                .assertThrows(IllegalStateException.class)
+                .assertMessageContains("first check on e");
+    }
+
+    @Test
+    void rethrowsFailureOfEarliestField_whenTheSameCheckFailsOnSeveralFields() {
+        for (int i = 0; i < 10; i++) {
+            ExpectedException
+                    .when(
+                        () -> inspector
+                                .check(
+                                    c -> Collections
+                                            .singletonList(p -> failIf(p.getName().compareTo("b") >= 0, p.getName()))))
+                    .assertThrows(IllegalStateException.class)
+                    .assertMessageContains("b");
+        }
+    }
+
+    @Test
+    void eachTaskGetsItsOwnSubjectCreator() {
+        Set<SubjectCreator<SixFields>> creators = ConcurrentHashMap.newKeySet();
+        inspector.check(c -> {
+            creators.add(c.getSubjectCreator());
+            return Collections.emptyList();
+        });
+
+        assertThat(creators).hasSize(4).doesNotContain(context.getSubjectCreator());
+    }
+
+    @Test
+    void checksSequentially_whenPoolHasNoParallelism() {
+        ForkJoinPool single = new ForkJoinPool(1);
+        try {
+            Set<Context<SixFields>> contexts = ConcurrentHashMap.newKeySet();
+            new ParallelFieldInspector<>(context, "Test", single).check(c -> {
+                contexts.add(c);
+                return Collections.emptyList();
+            });
+            assertThat(contexts).containsExactly(context);
+        }
+        finally {
+            single.shutdown();
+        }
+    }
+
+    private static FieldCheck<SixFields> failOn(String fieldName, String message) {
+        return p -> failIf(p.getName().equals(fieldName), message);
+    }
+
+    private static void failIf(boolean condition, String message) {
+        if (condition) {
+            throw new IllegalStateException(message);
+        }
+    }
+
+    @SuppressWarnings("unused")
+    static final class SixFields {
+
+        private int a;
+        private int b;
+        private int c;
+        private int d;
+        private int e;
+        private int f;
+    }
+}
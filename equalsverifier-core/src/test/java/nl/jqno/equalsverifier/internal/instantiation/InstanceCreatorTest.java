@@ -7,6 +7,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 import nl.jqno.equalsverifier.internal.reflection.ClassProbe;
+import nl.jqno.equalsverifier.internal.reflection.FieldProbe;
 import org.junit.jupiter.api.Test;
 import org.objenesis.Objenesis;
 import org.objenesis.ObjenesisStd;
@@ -32,6 +33,27 @@ class InstanceCreatorTest {
         assertThat(actual.z).isEqualTo("42");
     }
 
+    @Test
+    void instantiateFromSlots() {
+        ClassProbe<SomeClass> probe = ClassProbe.of(SomeClass.class);
+        Objenesis objenesis = new ObjenesisStd();
+        InstanceCreator<SomeClass> sut = new InstanceCreator<>(probe, objenesis);
+
+        FieldProbe[] slots = InstanceCreator.slots(SomeClass.class);
+        Object[] values = new Object[slots.length];
+        for (int i = 0; i < slots.length; i++) {
+            if (slots[i].getName().equals("z")) {
+                values[i] = "42";
+            }
+        }
+
+        SomeClass actual = sut.instantiate(values);
+
+        assertThat(actual.x).isEqualTo(0);
+        assertThat(actual.y).isEqualTo(0);
+        assertThat(actual.z).isEqualTo("42");
+    }
+
     @Test
     void copy() throws NoSuchFieldException {
         ClassProbe<SomeSubClass> probe = ClassProbe.of(SomeSubClass.class);
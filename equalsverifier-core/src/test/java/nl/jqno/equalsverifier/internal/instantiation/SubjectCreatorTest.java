@@ -187,6 +187,46 @@ class SubjectCreatorTest {
         assertThat(actual.getClass()).isEqualTo(SomeSub.class);
     }
 
+    @Test
+    void sharedPlain() {
+        expected = new SomeClass(I_RED, I_RED, S_RED);
+        actual = sut.sharedPlain();
+
+        assertThat(actual).isEqualTo(expected);
+        assertThat(sut.sharedPlain()).isSameAs(actual);
+        assertThat(sut.plain()).isNotSameAs(actual);
+    }
+
+    @Test
+    void sharedWithAllFieldsDefaulted() {
+        expected = new SomeClass(0, 0, null);
+        actual = sut.sharedWithAllFieldsDefaulted();
+
+        assertThat(actual).isEqualTo(expected);
+        assertThat(sut.sharedWithAllFieldsDefaulted()).isSameAs(actual);
+    }
+
+    @Test
+    void sharedWithAllFieldsChanged() {
+        expected = new SomeClass(I_BLUE, I_BLUE, S_BLUE);
+        actual = sut.sharedWithAllFieldsChanged();
+
+        assertThat(actual).isEqualTo(expected);
+        assertThat(sut.sharedWithAllFieldsChanged()).isSameAs(actual);
+    }
+
+    @Test
+    void sharedPlainIsRecreatedAfterModification() throws IllegalAccessException {
+        SomeClass shared = sut.sharedPlain();
+        fieldS.setAccessible(true);
+        fieldS.set(shared, S_BLUE);
+
+        actual = sut.sharedPlain();
+
+        assertThat(actual).isNotSameAs(shared);
+        assertThat(actual).isEqualTo(new SomeClass(I_RED, I_RED, S_RED));
+    }
+
     @Test
     void noValueFound() {
         sut = new SubjectCreator<>(config, new NoValueProvider(), fieldCache, objenesis);
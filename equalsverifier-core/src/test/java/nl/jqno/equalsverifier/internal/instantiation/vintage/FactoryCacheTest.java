@@ -1,7 +1,10 @@
 package nl.jqno.equalsverifier.internal.instantiation.vintage;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import nl.jqno.equalsverifier.internal.exceptions.EqualsVerifierInternalBugException;
+import nl.jqno.equalsverifier.internal.instantiation.JavaApiPrefabValues;
 import nl.jqno.equalsverifier.internal.instantiation.vintage.prefabvalues.factories.PrefabValueFactory;
 import nl.jqno.equalsverifier.internal.instantiation.vintage.prefabvalues.factories.SimpleFactory;
 import org.junit.jupiter.api.Test;
@@ -75,4 +78,75 @@ class FactoryCacheTest {
         assertThat(a.contains(INT_CLASS)).isFalse();
         assertThat(b.contains(STRING_CLASS)).isFalse();
     }
+
+    @Test
+    void putOnImmutableCache() {
+        FactoryCache immutable = cache.makeImmutable();
+        assertThatThrownBy(() -> immutable.put(STRING_CLASS, STRING_FACTORY))
+                .isInstanceOf(EqualsVerifierInternalBugException.class);
+    }
+
+    @Test
+    void makeImmutableLeavesOriginalMutable() {
+        cache.put(STRING_CLASS, STRING_FACTORY);
+        FactoryCache immutable = cache.makeImmutable();
+        cache.put(INT_CLASS, INT_FACTORY);
+
+        assertThat(immutable.get(STRING_CLASS)).isEqualTo(STRING_FACTORY);
+        assertThat(immutable.contains(INT_CLASS)).isFalse();
+        assertThat(immutable.makeImmutable()).isSameAs(immutable);
+    }
+
+    @Test
+    void mergeWithImmutableCache() {
+        FactoryCache a = new FactoryCache();
+        a.put(STRING_CLASS, STRING_FACTORY);
+        a = a.makeImmutable();
+
+        FactoryCache b = new FactoryCache();
+        b.put(INT_CLASS, INT_FACTORY);
+
+        FactoryCache combined = a.merge(b);
+        combined.put(Object.class, STRING_FACTORY);
+
+        assertThat(combined.get(STRING_CLASS)).isEqualTo(STRING_FACTORY);
+        assertThat(combined.get(INT_CLASS)).isEqualTo(INT_FACTORY);
+        assertThat(a.contains(INT_CLASS)).isFalse();
+        assertThat(a.contains(Object.class)).isFalse();
+    }
+
+    @Test
+    void mergeOverridesImmutableCache() {
+        FactoryCache a = new FactoryCache();
+        a.put(INT_CLASS, new SimpleFactory<>(1, 2, 1));
+        a = a.makeImmutable();
+
+        FactoryCache b = new FactoryCache();
+        b.put(INT_CLASS, INT_FACTORY);
+
+        assertThat(a.merge(b).get(INT_CLASS)).isEqualTo(INT_FACTORY);
+    }
+
+    @Test
+    void mergeCopiesBaseOfOther() {
+        FactoryCache a = new FactoryCache();
+        a.put(STRING_CLASS, STRING_FACTORY);
+        a = a.makeImmutable();
+        FactoryCache b = a.copy();
+        b.put(INT_CLASS, INT_FACTORY);
+
+        FactoryCache combined = new FactoryCache().merge(b);
+
+        assertThat(combined.get(STRING_CLASS)).isEqualTo(STRING_FACTORY);
+        assertThat(combined.get(INT_CLASS)).isEqualTo(INT_FACTORY);
+    }
+
+    @Test
+    void sharedJavaApiPrefabValuesAreBuiltOnce() {
+        FactoryCache shared = JavaApiPrefabValues.shared();
+        assertThat(JavaApiPrefabValues.shared()).isSameAs(shared);
+        assertThat(shared.contains(STRING_CLASS)).isTrue();
+        assertThatThrownBy(() -> shared.put(STRING_CLASS, STRING_FACTORY))
+                .isInstanceOf(EqualsVerifierInternalBugException.class);
+    }
 }
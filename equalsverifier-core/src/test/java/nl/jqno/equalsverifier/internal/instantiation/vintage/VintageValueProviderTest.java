@@ -6,6 +6,7 @@ import static nl.jqno.equalsverifier.internal.testhelpers.Util.defaultHashCode;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.fail;
 
+import java.lang.reflect.Field;
 import java.util.*;
 
 import nl.jqno.equalsverifier.internal.instantiation.vintage.prefabvalues.factories.PrefabValueFactory;
@@ -82,6 +83,33 @@ class VintageValueProviderTest {
         assertThat(vp.<String>giveRedCopy(STRING_TAG)).isEqualTo("r").isNotSameAs(vp.giveRed(STRING_TAG));
     }
 
+    @Test
+    void giveRedFromSharedCache() {
+        TupleCache shared = new TupleCache();
+        new VintageValueProvider(factoryCache, shared, objenesis).giveRed(STRING_TAG);
+        VintageValueProvider other = new VintageValueProvider(factoryCache, shared, objenesis);
+
+        assertThat(other.<String>giveRed(STRING_TAG)).isEqualTo("r");
+        assertThat(shared.size()).isEqualTo(1);
+    }
+
+    @Test
+    void giveRedWithoutSharedCache() {
+        vp.giveRed(STRING_TAG);
+        VintageValueProvider other = new VintageValueProvider(factoryCache, objenesis);
+
+        assertThat(other.<String>giveRed(STRING_TAG)).isEqualTo("rr");
+    }
+
+    @Test
+    void sharedCacheIsFilledWithNestedValues() {
+        TupleCache shared = new TupleCache();
+        new VintageValueProvider(factoryCache, shared, objenesis).giveRed(POINT_TAG);
+
+        assertThat(shared.<Point>get(POINT_TAG).getRed()).isEqualTo(new Point(42, 42));
+        assertThat(shared.<Integer>get(INT_TAG).getRed()).isEqualTo(42);
+    }
+
     @Test
     void giveRedFromFallbackFactory() {
         Point actual = vp.giveRed(POINT_TAG);
@@ -162,6 +190,18 @@ class VintageValueProviderTest {
         }
     }
 
+    @Test
+    void tagOfResolvesFieldOnce_givenEqualGenericEnclosingTypes() throws Exception {
+        Field f = GenericContainer.class.getDeclaredField("t");
+        TypeTag first = vp.tagOf(f, new TypeTag(GenericContainer.class, STRING_TAG));
+        TypeTag second = vp.tagOf(f, new TypeTag(GenericContainer.class, STRING_TAG));
+        TypeTag other = vp.tagOf(f, new TypeTag(GenericContainer.class, INT_TAG));
+
+        assertThat(first).isEqualTo(STRING_TAG);
+        assertThat(second).isSameAs(first);
+        assertThat(other).isEqualTo(INT_TAG);
+    }
+
     public static class NpeThrowing {
 
         private final int i;
@@ -238,6 +278,12 @@ class VintageValueProviderTest {
         int regularInt = 3;
     }
 
+    @SuppressWarnings("unused")
+    private static final class GenericContainer<T> {
+
+        T t;
+    }
+
     @SuppressWarnings("unused")
     public static class Lazy {
 
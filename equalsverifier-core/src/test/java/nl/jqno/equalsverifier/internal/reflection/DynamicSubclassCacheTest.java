@@ -0,0 +1,116 @@
+package nl.jqno.equalsverifier.internal.reflection;
+
+import static net.bytebuddy.matcher.ElementMatchers.named;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.implementation.FixedValue;
+import net.bytebuddy.jar.asm.ClassReader;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class DynamicSubclassCacheTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void loadRenamesStoredBytecode() {
+        DynamicSubclassCache cache = DynamicSubclassCache.of(directory);
+        cache.store(Stored.class, "suffix", subclassOf(Stored.class, "some.pkg.Original").make());
+
+        byte[] bytes = cache.load(Stored.class, "suffix", "other.pkg.Renamed");
+        assertThat(new ClassReader(bytes).getClassName()).isEqualTo("other/pkg/Renamed");
+    }
+
+    @Test
+    void loadReturnsNull_whenNothingWasStored() {
+        DynamicSubclassCache cache = DynamicSubclassCache.of(directory);
+        cache.store(Stored.class, "suffix", subclassOf(Stored.class, "some.pkg.Original").make());
+
+        assertThat(cache.load(Stored.class, "another suffix", "some.pkg.Original")).isNull();
+        assertThat(cache.load(Point.class, "suffix", "some.pkg.Original")).isNull();
+    }
+
+    @Test
+    void doesNotStoreSubclassesThatNeedInitialization() throws IOException {
+        DynamicSubclassCache cache = DynamicSubclassCache.of(directory);
+        DynamicType.Unloaded<Stored> type = subclassOf(Stored.class, "some.pkg.Original")
+                .method(named("value"))
+                .intercept(FixedValue.reference(new Object()))
+                .make();
+        cache.store(Stored.class, "suffix", type);
+
+        assertThat(classFiles()).isZero();
+    }
+
+    @Test
+    void isNotConfigured_whenPropertyIsNotSet() {
+        assertThat(System.getProperty(DynamicSubclassCache.PROPERTY)).isNull();
+        assertThat(DynamicSubclassCache.configured()).isNull();
+    }
+
+    @Test
+    void generatedSubclassesAreStored_whenPropertyIsSet() throws IOException {
+        withProperty(() -> Instantiator.giveDynamicSubclass(Generated.class, "stored", b -> b));
+        assertThat(classFiles()).isEqualTo(1);
+    }
+
+    @Test
+    void subclassesAreDefinedFromStoredBytecode_whenPropertyIsSet() throws NoSuchFieldException {
+        DynamicSubclassCache
+                .of(directory)
+                .store(
+                    Marked.class,
+                    "marked",
+                    subclassOf(Marked.class, "some.pkg.Original")
+                            .defineField("fromCache", int.class, Visibility.PUBLIC)
+                            .make());
+
+        Class<?>[] result = new Class<?>[1];
+        withProperty(() -> result[0] = Instantiator.giveDynamicSubclass(Marked.class, "marked", b -> b));
+
+        assertThat(result[0].getSuperclass()).isEqualTo(Marked.class);
+        assertThat(result[0].getDeclaredField("fromCache")).isNotNull();
+    }
+
+    private <T> DynamicType.Builder<T> subclassOf(Class<T> type, String name) {
+        return new ByteBuddy().subclass(type).name(name);
+    }
+
+    private void withProperty(Runnable action) {
+        System.setProperty(DynamicSubclassCache.PROPERTY, directory.toString());
+        try {
+            action.run();
+        }
+        finally {
+            System.clearProperty(DynamicSubclassCache.PROPERTY);
+        }
+    }
+
+    private long classFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(p -> p.toString().endsWith(".class")).count();
+        }
+    }
+
+    public static class Stored {
+
+        public Object value() {
+            return null;
+        }
+    }
+
+    public static class Generated {}
+
+    public static class Marked {}
+
+    static final class Point {}
+}
@@ -59,4 +59,14 @@ class FieldCacheTest {
         expected.add(stringField);
         assertThat(cache.getFieldNames()).isEqualTo(expected);
     }
+
+    @Test
+    void copyIsIndependent() {
+        cache.put(stringField, stringValues);
+        FieldCache copy = cache.copy();
+        copy.put(intField, intValues);
+
+        assertThat(copy.get(stringField)).isEqualTo(stringValues);
+        assertThat(cache.contains(intField)).isFalse();
+    }
 }
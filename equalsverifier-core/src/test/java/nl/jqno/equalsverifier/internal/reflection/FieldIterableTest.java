@@ -149,6 +149,41 @@ class FieldIterableTest {
         assertThat(fields.get(0).getName()).isEqualTo("i");
     }
 
+    @Test
+    void orderingTestWithSuperclass() {
+        List<String> actual = new ArrayList<>();
+        for (FieldProbe probe : FieldIterable.of(DifferentAccessModifiersSubFieldContainer.class)) {
+            actual.add(probe.getName());
+        }
+        List<String> expected = new ArrayList<>();
+        for (FieldProbe probe : FieldIterable.ofIgnoringSuper(DifferentAccessModifiersSubFieldContainer.class)) {
+            expected.add(probe.getName());
+        }
+        for (FieldProbe probe : FieldIterable.of(DifferentAccessModifiersFieldContainer.class)) {
+            expected.add(probe.getName());
+        }
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    void iteratingTwiceGivesTheSameProbes() {
+        Iterator<FieldProbe> first = FieldIterable.of(DifferentAccessModifiersSubFieldContainer.class).iterator();
+        Iterator<FieldProbe> second = FieldIterable.of(DifferentAccessModifiersSubFieldContainer.class).iterator();
+        while (first.hasNext()) {
+            assertThat(second.next()).isSameAs(first.next());
+        }
+        assertThat(second.hasNext()).isFalse();
+    }
+
+    @Test
+    void iteratorCannotRemove() {
+        Iterator<FieldProbe> iterator = FieldIterable.of(DifferentAccessModifiersFieldContainer.class).iterator();
+        iterator.next();
+
+        assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> iterator.remove());
+    }
+
     private static Set<Field> createFieldContainerFields() {
         Set<Field> result = new HashSet<>();
         Class<DifferentAccessModifiersFieldContainer> type = DifferentAccessModifiersFieldContainer.class;
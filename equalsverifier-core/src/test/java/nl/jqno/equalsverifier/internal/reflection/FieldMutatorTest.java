@@ -1,6 +1,7 @@
 package nl.jqno.equalsverifier.internal.reflection;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import org.junit.jupiter.api.Test;
 
@@ -50,6 +51,49 @@ class FieldMutatorTest {
         assertThat(Container.FINAL_STRING).isEqualTo("FINAL");
     }
 
+    @Test
+    void setPrimitiveMoreThanOnce() throws NoSuchFieldException {
+        p = FieldProbe.of(Container.class.getDeclaredField("i"));
+        sut = new FieldMutator(p);
+
+        sut.setNewValue(o, 1337);
+        sut.setNewValue(o, 42);
+        assertThat(o.i).isEqualTo(42);
+        assertThat(p.getValue(o)).isEqualTo(42);
+    }
+
+    @Test
+    void setNonstaticObjectOnSubclassInstance() throws NoSuchFieldException {
+        SubContainer sub = new SubContainer();
+        p = FieldProbe.of(Container.class.getDeclaredField("s"));
+        sut = new FieldMutator(p);
+
+        sut.setNewValue(sub, "changed");
+        assertThat(((Container) sub).s).isEqualTo("changed");
+    }
+
+    @Test
+    void setPrimitiveToNull() throws NoSuchFieldException {
+        p = FieldProbe.of(Container.class.getDeclaredField("i"));
+        sut = new FieldMutator(p);
+
+        assertThatThrownBy(() -> sut.setNewValue(o, null)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(o.i).isEqualTo(10);
+    }
+
+    @Test
+    void setObjectToValueOfWrongType() throws NoSuchFieldException {
+        p = FieldProbe.of(Container.class.getDeclaredField("s"));
+        sut = new FieldMutator(p);
+
+        assertThatThrownBy(() -> sut.setNewValue(o, 1337))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("Can not set");
+        assertThat(o.s).isEqualTo("NON-FINAL");
+    }
+
+    static class SubContainer extends Container {}
+
     static class Container {
 
         private static final int FINAL_INT = 42;
@@ -0,0 +1,88 @@
+package nl.jqno.equalsverifier.internal.reflection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+class FieldPopulatorTest {
+
+    private final FieldPopulator<SubContainer> sut = FieldPopulator.of(SubContainer.class);
+
+    @Test
+    void slotsContainInstanceFieldsOfClassAndSuperclasses() {
+        assertThat(Arrays.stream(sut.slots()).map(FieldProbe::getName)).containsExactly("t", "i", "s");
+    }
+
+    @Test
+    void populatorIsCreatedOncePerClass() {
+        assertThat(FieldPopulator.of(SubContainer.class)).isSameAs(sut);
+    }
+
+    @Test
+    void populateAssignsAllFields() {
+        SubContainer o = new SubContainer();
+        sut.populate(o, new Object[] { "sub", 1337, "changed" });
+
+        assertThat(o.t).isEqualTo("sub");
+        assertThat(((Container) o).i).isEqualTo(1337);
+        assertThat(((Container) o).s).isEqualTo("changed");
+    }
+
+    @Test
+    void populateAssignsDefaultValues_whenValueIsNull() {
+        SubContainer o = new SubContainer();
+        sut.populate(o, new Object[] { null, null, null });
+
+        assertThat(o.t).isNull();
+        assertThat(((Container) o).i).isZero();
+        assertThat(((Container) o).s).isNull();
+    }
+
+    @Test
+    void populateDoesNotChangeTheGivenValues() {
+        Object[] values = { null, null, null };
+        sut.populate(new SubContainer(), values);
+
+        assertThat(values).containsOnlyNulls();
+    }
+
+    @Test
+    void populateFallsBackToReflection_whenValueHasWrongType() {
+        SubContainer o = new SubContainer();
+
+        assertThatThrownBy(() -> sut.populate(o, new Object[] { "sub", 1337, 42 }))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("Can not set");
+    }
+
+    @Test
+    void readReturnsAllFields() {
+        assertThat(sut.read(new SubContainer())).containsExactly("SUB", 10, "NON-FINAL");
+    }
+
+    @Test
+    void readWorksOnSubclassInstance() {
+        FieldPopulator<Container> populator = FieldPopulator.of(Container.class);
+        assertThat(populator.read(new SubContainer())).containsExactly(10, "NON-FINAL");
+    }
+
+    static class Container {
+
+        private final int i;
+        private final String s;
+
+        Container() {
+            this.i = 10;
+            this.s = "NON-FINAL";
+        }
+    }
+
+    static class SubContainer extends Container {
+
+        private static final String CONSTANT = "SUB";
+        private String t = CONSTANT;
+    }
+}
@@ -0,0 +1,323 @@
+package nl.jqno.equalsverifier.internal.reflection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import nl.jqno.equalsverifier.testhelpers.types.Point;
+import org.junit.jupiter.api.Test;
+
+class FieldReadsTest {
+
+    @Test
+    void findsFieldsReadDirectly() {
+        FieldReads reads = FieldReads.of(IgnoresZ.class);
+        assertThat(reads.isConclusive()).isTrue();
+        assertThat(reads.mayRead("x")).isTrue();
+        assertThat(reads.mayRead("y")).isTrue();
+        assertThat(reads.mayRead("z")).isFalse();
+    }
+
+    @Test
+    void followsCallsToMethodsOfTheSameClass() {
+        FieldReads reads = FieldReads.of(ReadsThroughGetterAndHelper.class);
+        assertThat(reads.isConclusive()).isTrue();
+        assertThat(reads.mayRead("x")).isTrue();
+        assertThat(reads.mayRead("y")).isTrue();
+        assertThat(reads.mayRead("z")).isFalse();
+    }
+
+    @Test
+    void isConclusive_whenCachingTheHashCodeInAPrimitiveField() {
+        FieldReads reads = FieldReads.of(CachesHashCode.class);
+        assertThat(reads.isConclusive()).isTrue();
+        assertThat(reads.mayRead("z")).isFalse();
+    }
+
+    @Test
+    void isInconclusive_whenThisIsPassedToAnotherClass() {
+        assertInconclusive(PassesThisAway.class);
+    }
+
+    @Test
+    void isInconclusive_whenAnotherClassWasGivenThisEarlier() {
+        assertInconclusive(GivesThisToMatcher.class);
+    }
+
+    @Test
+    void isInconclusive_whenEqualsCallsSuper() {
+        assertInconclusive(CallsSuper.class);
+    }
+
+    @Test
+    void isInconclusive_whenEqualsIsInherited() {
+        assertInconclusive(InheritsEquals.class);
+    }
+
+    @Test
+    void isInconclusive_whenEqualsUsesALambda() {
+        assertInconclusive(UsesLambda.class);
+    }
+
+    @Test
+    void isInconclusive_whenEqualsCallsToString() {
+        assertInconclusive(ComparesToString.class);
+    }
+
+    @Test
+    void isInconclusive_forJdkClasses() {
+        assertInconclusive(String.class);
+    }
+
+    @Test
+    void isInconclusive_whenEqualsIsNotDeclared() {
+        assertInconclusive(Object.class);
+        assertInconclusive(NoEquals.class);
+    }
+
+    @Test
+    void mayReadEverything_whenInconclusive() {
+        assertThat(FieldReads.of(PassesThisAway.class).mayRead("z")).isTrue();
+    }
+
+    @Test
+    void resultIsCached() {
+        assertThat(FieldReads.of(IgnoresZ.class)).isSameAs(FieldReads.of(IgnoresZ.class));
+    }
+
+    private void assertInconclusive(Class<?> type) {
+        assertThat(FieldReads.of(type).isConclusive()).isFalse();
+    }
+
+    @SuppressWarnings("unused")
+    static final class IgnoresZ {
+
+        private final int x;
+        private final String y;
+        private final int z;
+
+        IgnoresZ(int x, String y, int z) {
+            this.x = x;
+            this.y = y;
+            this.z = z;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof IgnoresZ)) {
+                return false;
+            }
+            IgnoresZ other = (IgnoresZ) obj;
+            return x == other.x && Objects.equals(y, other.y);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(x, y);
+        }
+    }
+
+    @SuppressWarnings("unused")
+    static class ReadsThroughGetterAndHelper {
+
+        private final int x;
+        private final Point y;
+        private final int z;
+
+        ReadsThroughGetterAndHelper(int x, Point y, int z) {
+            this.x = x;
+            this.y = y;
+            this.z = z;
+        }
+
+        public int getX() {
+            return x;
+        }
+
+        private Point y() {
+            return y;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == null || getClass() != obj.getClass()) {
+                return false;
+            }
+            ReadsThroughGetterAndHelper other = (ReadsThroughGetterAndHelper) obj;
+            return getX() == other.getX() && y().equals(other.y());
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * getX() + y().hashCode();
+        }
+    }
+
+    @SuppressWarnings("unused")
+    static final class CachesHashCode {
+
+        private final int x;
+        private final int z;
+        private int cachedHashCode;
+
+        CachesHashCode(int x, int z) {
+            this.x = x;
+            this.z = z;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof CachesHashCode && x == ((CachesHashCode) obj).x;
+        }
+
+        @Override
+        public int hashCode() {
+            if (cachedHashCode == 0) {
+                cachedHashCode = x;
+            }
+            return cachedHashCode;
+        }
+    }
+
+    @SuppressWarnings("unused")
+    static final class PassesThisAway {
+
+        private final int x;
+        private final int z;
+
+        PassesThisAway(int x, int z) {
+            this.x = x;
+            this.z = z;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return ReflectiveHelper.reflectionEquals(this, obj) && x == ((PassesThisAway) obj).x;
+        }
+
+        @Override
+        public int hashCode() {
+            return x;
+        }
+    }
+
+    static final class ReflectiveHelper {
+
+        static boolean reflectionEquals(Object a, Object b) {
+            return a.getClass() == b.getClass();
+        }
+    }
+
+    @SuppressWarnings("unused")
+    static final class GivesThisToMatcher {
+
+        private final int x;
+        private final int z;
+        private final Matcher m = new Matcher(this);
+
+        GivesThisToMatcher(int x, int z) {
+            this.x = x;
+            this.z = z;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof GivesThisToMatcher && m.matches(((GivesThisToMatcher) obj).m);
+        }
+
+        @Override
+        public int hashCode() {
+            return x;
+        }
+    }
+
+    static final class Matcher {
+
+        private final GivesThisToMatcher outer;
+
+        Matcher(GivesThisToMatcher outer) {
+            this.outer = outer;
+        }
+
+        boolean matches(Matcher other) {
+            return outer.x == other.outer.x && outer.z == other.outer.z;
+        }
+    }
+
+    static final class CallsSuper extends Point {
+
+        CallsSuper(int x, int y) {
+            super(x, y);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return super.equals(obj);
+        }
+
+        @Override
+        public int hashCode() {
+            return super.hashCode();
+        }
+    }
+
+    static final class InheritsEquals extends Point {
+
+        InheritsEquals(int x, int y) {
+            super(x, y);
+        }
+    }
+
+    @SuppressWarnings("unused")
+    static final class UsesLambda {
+
+        private final int x;
+
+        UsesLambda(int x) {
+            this.x = x;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            Supplier<Integer> s = () -> x;
+            return obj instanceof UsesLambda && s.get() == ((UsesLambda) obj).x;
+        }
+
+        @Override
+        public int hashCode() {
+            return x;
+        }
+    }
+
+    @SuppressWarnings("unused")
+    static final class ComparesToString {
+
+        private final int x;
+
+        ComparesToString(int x) {
+            this.x = x;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj != null && toString().equals(obj.toString());
+        }
+
+        @Override
+        public int hashCode() {
+            return toString().hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "ComparesToString " + Integer.toString(x);
+        }
+    }
+
+    @SuppressWarnings("unused")
+    static final class NoEquals {
+
+        private int x;
+    }
+}
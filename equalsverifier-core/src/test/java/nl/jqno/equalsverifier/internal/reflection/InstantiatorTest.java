@@ -3,10 +3,18 @@ package nl.jqno.equalsverifier.internal.reflection;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.UnaryOperator;
 
 import net.bytebuddy.ByteBuddy;
 import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.dynamic.DynamicType;
 import net.bytebuddy.dynamic.scaffold.TypeValidation;
 import nl.jqno.equalsverifier.testhelpers.types.ColorBlindColorPoint;
 import nl.jqno.equalsverifier.testhelpers.types.FinalPoint;
@@ -120,4 +128,37 @@ class InstantiatorTest {
                 .getLoaded();
         Instantiator.giveDynamicSubclass(type, "X", b -> b);
     }
+
+    @Test
+    void giveDynamicSubclassesInOneBatch() throws Exception {
+        class Super {}
+        Map<String, UnaryOperator<DynamicType.Builder<Super>>> modifiers = new HashMap<>();
+        modifiers.put("a", b -> b.defineField("a", int.class, Visibility.PRIVATE));
+        modifiers.put("b", b -> b.defineField("b", int.class, Visibility.PRIVATE));
+
+        Map<String, Class<Super>> actual = Instantiator.giveDynamicSubclasses(Super.class, modifiers);
+
+        assertThat(actual.get("a").getDeclaredField("a")).isNotNull();
+        assertThat(actual.get("b").getDeclaredField("b")).isNotNull();
+        assertThat(Instantiator.giveDynamicSubclass(Super.class, "a", b -> b)).isSameAs(actual.get("a"));
+    }
+
+    @Test
+    void giveDynamicSubclassConcurrently() throws Exception {
+        class Super {}
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Class<Super>>> futures = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                futures.add(executor.submit(() -> Instantiator.giveDynamicSubclass(Super.class)));
+            }
+            Class<Super> expected = futures.get(0).get();
+            for (Future<Class<Super>> future : futures) {
+                assertThat(future.get()).isSameAs(expected);
+            }
+        }
+        finally {
+            executor.shutdown();
+        }
+    }
 }
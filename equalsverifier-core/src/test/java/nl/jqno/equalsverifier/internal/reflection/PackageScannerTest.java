@@ -3,15 +3,27 @@ package nl.jqno.equalsverifier.internal.reflection;
 import static nl.jqno.equalsverifier.internal.testhelpers.Util.coverThePrivateConstructor;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
 import java.util.stream.Collectors;
 
 import nl.jqno.equalsverifier.testhelpers.packages.correct.A;
 import nl.jqno.equalsverifier.testhelpers.packages.correct.B;
 import nl.jqno.equalsverifier.testhelpers.packages.correct.C;
+import nl.jqno.equalsverifier.testhelpers.packages.staticinit.StaticInitializer;
 import nl.jqno.equalsverifier.testhelpers.packages.subclasses.SubA1;
 import nl.jqno.equalsverifier.testhelpers.packages.subclasses.SubA2;
 import nl.jqno.equalsverifier.testhelpers.packages.subclasses.SubI1;
@@ -20,6 +32,7 @@ import nl.jqno.equalsverifier.testhelpers.packages.subclasses.SuperA;
 import nl.jqno.equalsverifier.testhelpers.packages.subclasses.SuperI;
 import nl.jqno.equalsverifier.testhelpers.packages.subclasses.subpackage.SubA3;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 class PackageScannerTest {
 
@@ -118,6 +131,78 @@ class PackageScannerTest {
                 .isEqualTo(Collections.singletonList(nl.jqno.equalsverifier.testhelpers.packages.anonymous.A.class));
     }
 
+    @Test
+    void classesAreNotInitialized() {
+        List<Class<?>> classes =
+                PackageScanner.getClassesIn("nl.jqno.equalsverifier.testhelpers.packages.staticinit", null, false);
+
+        assertThat(classes).contains(StaticInitializer.Initializing.class);
+        assertThat(StaticInitializer.INITIALIZED.get()).isFalse();
+    }
+
+    @Test
+    void happyPathInJar(@TempDir Path tempDir) throws Exception {
+        Path jar = createJar(tempDir, A.class, B.class, C.class, SubA1.class, SuperA.class);
+
+        List<String> classNames = withJarOnContextClassLoader(
+            jar,
+            () -> PackageScanner.getClassesIn("nl.jqno.equalsverifier.testhelpers.packages.correct", null, false));
+
+        assertThat(classNames).containsExactly(A.class.getName(), B.class.getName(), C.class.getName());
+    }
+
+    @Test
+    void happyPathMustExtendClassInJar(@TempDir Path tempDir) throws Exception {
+        Path jar = createJar(tempDir, SubA1.class, SubA2.class, SuperA.class, SubA3.class);
+
+        List<String> classNames = withJarOnContextClassLoader(
+            jar,
+            () -> PackageScanner
+                    .getClassesIn("nl.jqno.equalsverifier.testhelpers.packages.subclasses", SuperA.class, true));
+
+        assertThat(classNames).containsExactly(SubA1.class.getName(), SubA2.class.getName(), SubA3.class.getName());
+    }
+
+    private Path createJar(Path dir, Class<?>... types) throws IOException {
+        Path jar = dir.resolve("scan.jar");
+        Set<String> dirs = new HashSet<>();
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+            for (Class<?> type : types) {
+                String entry = type.getName().replace('.', '/') + ".class";
+                for (int i = entry.indexOf('/'); i >= 0; i = entry.indexOf('/', i + 1)) {
+                    String d = entry.substring(0, i + 1);
+                    if (dirs.add(d)) {
+                        out.putNextEntry(new JarEntry(d));
+                        out.closeEntry();
+                    }
+                }
+                out.putNextEntry(new JarEntry(entry));
+                try (InputStream in = type.getClassLoader().getResourceAsStream(entry)) {
+                    byte[] buffer = new byte[1024];
+                    for (int read = in.read(buffer); read >= 0; read = in.read(buffer)) {
+                        out.write(buffer, 0, read);
+                    }
+                }
+                out.closeEntry();
+            }
+        }
+        return jar;
+    }
+
+    private List<String> withJarOnContextClassLoader(Path jar, Supplier<List<Class<?>>> scan) throws IOException {
+        Thread thread = Thread.currentThread();
+        ClassLoader original = thread.getContextClassLoader();
+        try (URLClassLoader cl = new URLClassLoader(new URL[] { jar.toUri().toURL() }, null)) {
+            thread.setContextClassLoader(cl);
+            List<Class<?>> classes = scan.get();
+            assertThat(classes).allMatch(c -> c.getClassLoader() == cl);
+            return classes.stream().map(Class::getName).collect(Collectors.toList());
+        }
+        finally {
+            thread.setContextClassLoader(original);
+        }
+    }
+
     private void sort(List<Class<?>> classes) {
         classes.sort(Comparator.comparing(Class::getName));
     }
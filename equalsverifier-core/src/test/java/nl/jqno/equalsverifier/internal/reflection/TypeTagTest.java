@@ -23,6 +23,7 @@ class TypeTagTest {
         EqualsVerifier
                 .forClass(TypeTag.class)
                 .withPrefabValues(TypeTag.class, new TypeTag(Integer.class), SOME_LONG_TYPETAG)
+                .withCachedHashCode("cachedHashCode", "calcHashCode", SOME_LONG_TYPETAG)
                 .suppress(Warning.NULL_FIELDS)
                 .verify();
     }
@@ -62,6 +63,35 @@ class TypeTagTest {
         assertThat(actual).isEqualTo(new TypeTag(String.class));
     }
 
+    @Test
+    void fieldIsResolvedOnce_givenNonGenericEnclosingType() throws Exception {
+        Field f = Point.class.getDeclaredField("x");
+        TypeTag first = TypeTag.of(f, new TypeTag(Point.class));
+        TypeTag second = TypeTag.of(f, new TypeTag(Point.class));
+
+        assertThat(second).isSameAs(first);
+        assertThat(first).isEqualTo(new TypeTag(int.class));
+    }
+
+    @Test
+    void fieldIsResolvedForEachEnclosingType_givenGenericEnclosingTypes() throws Exception {
+        Field f = Container.class.getDeclaredField("t");
+        TypeTag string = TypeTag.of(f, new TypeTag(Container.class, new TypeTag(String.class)));
+        TypeTag integer = TypeTag.of(f, new TypeTag(Container.class, new TypeTag(Integer.class)));
+
+        assertThat(string).isEqualTo(new TypeTag(String.class));
+        assertThat(integer).isEqualTo(new TypeTag(Integer.class));
+    }
+
+    @Test
+    void genericTypesCannotBeChangedAfterConstruction() {
+        TypeTag[] generics = { new TypeTag(String.class) };
+        TypeTag tag = new TypeTag(List.class, generics);
+        generics[0] = new TypeTag(Integer.class);
+
+        assertThat(tag).isEqualTo(new TypeTag(List.class, new TypeTag(String.class)));
+    }
+
     @Test
     void matchParameterizedGenericField() throws Exception {
         Field enclosingField = ContainerContainer.class.getDeclaredField("stringContainer");
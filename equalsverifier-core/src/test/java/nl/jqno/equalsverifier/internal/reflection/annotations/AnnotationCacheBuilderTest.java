@@ -196,6 +196,25 @@ class AnnotationCacheBuilderTest {
         assertTypeDoesNotHaveAnnotation(AnnotatedPackage.class, INAPPLICABLE);
     }
 
+    @Test
+    void typeAnnotationInPackageIsFoundAgainInFreshCache() {
+        build(AnnotatedPackage.class);
+        cache = new AnnotationCache();
+        build(AnnotatedPackage.class);
+
+        assertTypeHasAnnotation(AnnotatedPackage.class, PACKAGE_ANNOTATION);
+    }
+
+    @Test
+    void inheritedAnnotationsAreFoundAgainWithOtherBuilder() {
+        build(SubclassWithAnnotations.class);
+        cache = new AnnotationCache();
+        cacheBuilder = new AnnotationCacheBuilder(TestSupportedAnnotations.values(), NO_INGORED_ANNOTATIONS);
+        build(SubclassWithAnnotations.class);
+
+        assertTypeHasAnnotation(SubclassWithAnnotations.class, TYPE_INHERITS);
+    }
+
     @Test
     void searchIgnoredField() {
         cacheBuilder = new AnnotationCacheBuilder(TestSupportedAnnotations.values(),
@@ -0,0 +1,27 @@
+package nl.jqno.equalsverifier.internal.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class ClassCacheTest {
+
+    private final AtomicInteger computations = new AtomicInteger();
+    private final ClassValue<Integer> sut = ClassCache.of(type -> computations.incrementAndGet());
+
+    @Test
+    void valueIsComputedOncePerClass() {
+        assertThat(sut.get(String.class)).isEqualTo(1);
+        assertThat(sut.get(String.class)).isEqualTo(1);
+        assertThat(sut.get(Integer.class)).isEqualTo(2);
+    }
+
+    @Test
+    void valueIsComputedAgain_whenCachesAreCleared() {
+        assertThat(sut.get(String.class)).isEqualTo(1);
+        ClassCache.clearAll();
+        assertThat(sut.get(String.class)).isEqualTo(2);
+    }
+}
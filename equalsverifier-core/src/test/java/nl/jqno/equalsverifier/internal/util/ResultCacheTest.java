@@ -0,0 +1,104 @@
+package nl.jqno.equalsverifier.internal.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import nl.jqno.equalsverifier.testhelpers.types.Point;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ResultCacheTest {
+
+    @TempDir
+    Path cacheDir;
+
+    @Test
+    void containsFingerprint_whenItWasRemembered() {
+        ResultCache sut = ResultCache.of(cacheDir);
+        String fingerprint = ResultCache.fingerprint().includingHierarchy(Point.class).compute();
+
+        assertThat(sut.contains(fingerprint)).isFalse();
+        sut.remember(fingerprint, Point.class);
+        assertThat(sut.contains(fingerprint)).isTrue();
+    }
+
+    @Test
+    void containsFingerprint_whenItIsOnlyOnDisk() throws IOException {
+        ResultCache sut = ResultCache.of(cacheDir);
+        String fingerprint = ResultCache.fingerprint().includingHierarchy(Point.class).compute();
+        sut.remember(fingerprint, Point.class);
+
+        Path otherDir = Files.createDirectory(cacheDir.resolve("copy"));
+        Files.copy(cacheDir.resolve(fingerprint), otherDir.resolve(fingerprint));
+
+        assertThat(ResultCache.of(otherDir).contains(fingerprint)).isTrue();
+    }
+
+    @Test
+    void fingerprintDiffers_whenConfigurationDiffers() {
+        String a = ResultCache.fingerprint().includingHierarchy(Point.class).including("config", 1).compute();
+        String b = ResultCache.fingerprint().includingHierarchy(Point.class).including("config", 2).compute();
+
+        assertThat(a).isNotNull().isNotEqualTo(b);
+    }
+
+    @Test
+    void fingerprintDiffers_whenKnownValueDiffers() {
+        String a = ResultCache.fingerprint().includingHierarchy(Point.class).includingKnown("version", "1.0").compute();
+        String b = ResultCache.fingerprint().includingHierarchy(Point.class).includingKnown("version", "2.0").compute();
+
+        assertThat(a).isNotNull().isNotEqualTo(b);
+    }
+
+    @Test
+    void noFingerprint_whenKnownValueIsNull() {
+        assertThat(ResultCache.fingerprint().includingHierarchy(Point.class).includingKnown("version", null).compute())
+                .isNull();
+    }
+
+    @Test
+    void fingerprintIncludesTypeArgumentsOfFields() throws Exception {
+        assertThat(fingerprintWithHiddenBytecode(Holder.class, null)).isNotNull();
+        assertThat(fingerprintWithHiddenBytecode(Holder.class, Element.class)).isNull();
+    }
+
+    @Test
+    void fingerprintIncludesEnclosingClasses() throws Exception {
+        assertThat(fingerprintWithHiddenBytecode(Outer.Inner.class, null)).isNotNull();
+        assertThat(fingerprintWithHiddenBytecode(Outer.Inner.class, Outer.class)).isNull();
+    }
+
+    /**
+     * Loads {@code type} in a fresh classloader that can't find the bytecode of {@code hidden}, so the fingerprint of
+     * {@code type} is unavailable if and only if it includes {@code hidden}.
+     */
+    private String fingerprintWithHiddenBytecode(Class<?> type, Class<?> hidden) throws Exception {
+        URL classes = type.getProtectionDomain().getCodeSource().getLocation();
+        String hiddenResource = hidden == null ? null : hidden.getName().replace('.', '/') + ".class";
+        try (URLClassLoader loader = new URLClassLoader(new URL[] { classes }, null) {
+            @Override
+            public URL findResource(String name) {
+                return name.equals(hiddenResource) ? null : super.findResource(name);
+            }
+        }) {
+            Class<?> reloaded = loader.loadClass(type.getName());
+            return ResultCache.fingerprint().includingHierarchy(reloaded).compute();
+        }
+    }
+
+    static final class Holder {
+        List<Element> elements;
+    }
+
+    static final class Element {}
+
+    static final class Outer {
+        static final class Inner {}
+    }
+}
@@ -0,0 +1,17 @@
+package nl.jqno.equalsverifier.testhelpers.packages.staticinit;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public final class StaticInitializer {
+
+    public static final AtomicBoolean INITIALIZED = new AtomicBoolean(false);
+
+    private StaticInitializer() {}
+
+    public static final class Initializing {
+
+        static {
+            INITIALIZED.set(true);
+        }
+    }
+}
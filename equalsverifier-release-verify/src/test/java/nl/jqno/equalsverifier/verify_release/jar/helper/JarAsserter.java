@@ -32,9 +32,12 @@ public class JarAsserter {
     public void assertPresenceOfMultiReleaseClasses() {
         assertPresenceOf(
             "/META-INF/versions/11" + EV + "/internal/versionspecific/ModuleHelper.class",
+            "/META-INF/versions/11" + EV + "/internal/versionspecific/FlightRecorderHelper.class",
             "/META-INF/versions/16" + EV + "/internal/versionspecific/RecordsHelper.class",
+            "/META-INF/versions/16" + EV + "/internal/versionspecific/HiddenClassHelper.class",
             "/META-INF/versions/17" + EV + "/internal/versionspecific/SealedTypesHelper.class",
-            "/META-INF/versions/21" + EV + "/internal/versionspecific/SequencedCollectionsHelper.class");
+            "/META-INF/versions/21" + EV + "/internal/versionspecific/SequencedCollectionsHelper.class",
+            "/META-INF/versions/21" + EV + "/internal/versionspecific/ExecutorHelper.class");
     }
 
     public void assertPresenceOfEmbeddedDepedencies() {